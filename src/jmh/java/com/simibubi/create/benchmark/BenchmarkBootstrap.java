@@ -0,0 +1,23 @@
+package com.simibubi.create.benchmark;
+
+import net.minecraft.SharedConstants;
+import net.minecraft.server.Bootstrap;
+
+/**
+ * Benchmarks run outside of the game, so only vanilla registries are available.
+ * Create's own content is never registered and mixins are not applied, which
+ * limits benchmarks to code that does not depend on either.
+ */
+public class BenchmarkBootstrap {
+
+	private static boolean done;
+
+	public static synchronized void run() {
+		if (done)
+			return;
+		SharedConstants.tryDetectVersion();
+		Bootstrap.bootStrap();
+		done = true;
+	}
+
+}
@@ -0,0 +1,76 @@
+package com.simibubi.create.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.simibubi.create.content.trains.track.BezierConnection;
+import com.simibubi.create.foundation.utility.Couple;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.phys.Vec3;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class BezierConnectionBenchmark {
+
+	/**
+	 * Length of the curve along both axes, in blocks
+	 */
+	@Param({ "8", "32" })
+	public int size;
+
+	private BezierConnection connection;
+
+	@Setup
+	public void setup() {
+		BenchmarkBootstrap.run();
+		BlockPos from = BlockPos.ZERO;
+		BlockPos to = new BlockPos(size, size / 4, size);
+		// A turn from heading east to heading south, climbing on the way
+		connection = new BezierConnection(Couple.create(from, to),
+			Couple.create(Vec3.atBottomCenterOf(from), Vec3.atBottomCenterOf(to)),
+			Couple.create(new Vec3(1, 0, 0), new Vec3(0, 0, -1)), Couple.create(new Vec3(0, 1, 0), new Vec3(0, 1, 0)),
+			true, true, null);
+		connection.getLength();
+	}
+
+	@Benchmark
+	public Object bakeSegments() {
+		// Clones have nothing resolved or baked yet
+		return connection.clone()
+			.getBakedSegments();
+	}
+
+	@Benchmark
+	public Object bakeGirders() {
+		return connection.clone()
+			.getBakedGirders();
+	}
+
+	@Benchmark
+	public double incrementAlongCurve() {
+		double t = 0;
+		int steps = 0;
+		while (t < 1) {
+			t = connection.incrementT(t, 0.25);
+			steps++;
+		}
+		return t + steps;
+	}
+
+}
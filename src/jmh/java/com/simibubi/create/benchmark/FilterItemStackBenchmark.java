@@ -0,0 +1,61 @@
+package com.simibubi.create.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.simibubi.create.content.logistics.filter.FilterItemStack;
+import com.simibubi.create.foundation.utility.Components;
+
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+
+/**
+ * Tests a mix of matching and non-matching stacks against a single item
+ * filter. List and attribute filters need Create's items to be registered and
+ * are not covered. Neither are variants, whose creation relies on a mixin.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class FilterItemStackBenchmark {
+
+	private FilterItemStack filter;
+	private ItemStack[] stacks;
+
+	@Setup
+	public void setup() {
+		BenchmarkBootstrap.run();
+		ItemStack named = new ItemStack(Items.IRON_INGOT);
+		named.setHoverName(Components.literal("Named"));
+		filter = FilterItemStack.of(new ItemStack(Items.IRON_INGOT));
+		stacks = new ItemStack[] { new ItemStack(Items.IRON_INGOT, 32), new ItemStack(Items.GOLD_INGOT, 16),
+			named, new ItemStack(Items.COBBLESTONE, 64) };
+	}
+
+	@Benchmark
+	public void testStacks(Blackhole blackhole) {
+		for (ItemStack stack : stacks)
+			blackhole.consume(filter.test(null, stack));
+	}
+
+	@Benchmark
+	public void testStacksMatchingNbt(Blackhole blackhole) {
+		for (ItemStack stack : stacks)
+			blackhole.consume(filter.test(null, stack, true));
+	}
+
+}
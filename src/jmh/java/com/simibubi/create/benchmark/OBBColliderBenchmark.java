@@ -0,0 +1,73 @@
+package com.simibubi.create.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.simibubi.create.foundation.collision.ContinuousOBBCollider;
+import com.simibubi.create.foundation.collision.Matrix3d;
+import com.simibubi.create.foundation.collision.OBBCollider;
+
+import net.minecraft.world.phys.Vec3;
+
+/**
+ * Separates one rotated box from a fixed set of nearby boxes, the way a
+ * contraption is tested against the blocks around an entity.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class OBBColliderBenchmark {
+
+	private static final int BOXES = 256;
+
+	private final Vec3[] centers = new Vec3[BOXES];
+	private final Vec3[] extents = new Vec3[BOXES];
+	private Vec3 entityCenter;
+	private Vec3 entityExtents;
+	private Vec3 motion;
+	private Matrix3d rotation;
+
+	@Setup
+	public void setup() {
+		BenchmarkBootstrap.run();
+		Random random = new Random(42);
+		for (int i = 0; i < BOXES; i++) {
+			centers[i] = new Vec3(random.nextInt(5) - 2, random.nextInt(5) - 2, random.nextInt(5) - 2).add(.5, .5, .5);
+			extents[i] = new Vec3(.5, random.nextBoolean() ? .5 : .25, .5);
+		}
+		entityCenter = new Vec3(.3, .9, -.2);
+		entityExtents = new Vec3(.3, .9, .3);
+		motion = new Vec3(.05, -.08, .12);
+		rotation = new Matrix3d().asYRotation((float) Math.toRadians(30))
+			.multiply(new Matrix3d().asXRotation((float) Math.toRadians(10)));
+	}
+
+	@Benchmark
+	public void separate(Blackhole blackhole) {
+		for (int i = 0; i < BOXES; i++)
+			blackhole.consume(OBBCollider.separateBBs(entityCenter, centers[i], entityExtents, extents[i], rotation));
+	}
+
+	@Benchmark
+	public void separateContinuous(Blackhole blackhole) {
+		for (int i = 0; i < BOXES; i++)
+			blackhole.consume(ContinuousOBBCollider.separateBBs(entityCenter, centers[i], entityExtents, extents[i],
+				rotation, motion));
+	}
+
+}
@@ -0,0 +1,125 @@
+package com.simibubi.create.benchmark;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.simibubi.create.foundation.blockEntity.SmartBlockEntity;
+import com.simibubi.create.foundation.blockEntity.behaviour.BehaviourType;
+import com.simibubi.create.foundation.blockEntity.behaviour.BlockEntityBehaviour;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.entity.BlockEntityType;
+
+/**
+ * Ticks a block entity with a typical mix of behaviours, of which only some
+ * tick, and looks its behaviours up by type the way chutes, funnels and belts
+ * look up their neighbours. The hash map lookups are the storage block entities
+ * used before behaviours were indexed by type id, kept for comparison.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class SmartBlockEntityBenchmark {
+
+	private static final int BEHAVIOURS = 6;
+	private static final int TICKING = 2;
+
+	private static final List<BehaviourType<Behaviour>> TYPES = List.of(new BehaviourType<>(), new BehaviourType<>(),
+		new BehaviourType<>(), new BehaviourType<>(), new BehaviourType<>(), new BehaviourType<>());
+	private static final BehaviourType<Behaviour> MISSING = new BehaviourType<>();
+
+	private BenchmarkBlockEntity blockEntity;
+	private Map<BehaviourType<?>, BlockEntityBehaviour> hashMap;
+
+	@Setup
+	public void setup() {
+		BenchmarkBootstrap.run();
+		blockEntity = new BenchmarkBlockEntity();
+		hashMap = new HashMap<>();
+		blockEntity.forEachBehaviour(b -> hashMap.put(b.getType(), b));
+	}
+
+	@Benchmark
+	public void tick() {
+		blockEntity.tick();
+	}
+
+	@Benchmark
+	public void getBehaviour(Blackhole blackhole) {
+		for (BehaviourType<Behaviour> type : TYPES)
+			blackhole.consume(blockEntity.getBehaviour(type));
+		blackhole.consume(blockEntity.getBehaviour(MISSING));
+	}
+
+	@Benchmark
+	public void getBehaviourFromHashMap(Blackhole blackhole) {
+		for (BehaviourType<Behaviour> type : TYPES)
+			blackhole.consume(hashMap.get(type));
+		blackhole.consume(hashMap.get(MISSING));
+	}
+
+	private static class BenchmarkBlockEntity extends SmartBlockEntity {
+
+		public BenchmarkBlockEntity() {
+			super(BlockEntityType.FURNACE, BlockPos.ZERO, Blocks.FURNACE.defaultBlockState());
+		}
+
+		@Override
+		public void addBehaviours(List<BlockEntityBehaviour> behaviours) {
+			for (int i = 0; i < BEHAVIOURS; i++)
+				behaviours.add(i < TICKING ? new TickingBehaviour(this, TYPES.get(i)) : new Behaviour(this, TYPES.get(i)));
+		}
+
+	}
+
+	private static class Behaviour extends BlockEntityBehaviour {
+
+		private final BehaviourType<Behaviour> type;
+
+		public Behaviour(SmartBlockEntity be, BehaviourType<Behaviour> type) {
+			super(be);
+			this.type = type;
+		}
+
+		@Override
+		public BehaviourType<?> getType() {
+			return type;
+		}
+
+	}
+
+	private static class TickingBehaviour extends Behaviour {
+
+		private int ticks;
+
+		public TickingBehaviour(SmartBlockEntity be, BehaviourType<Behaviour> type) {
+			super(be, type);
+		}
+
+		@Override
+		public void tick() {
+			super.tick();
+			ticks++;
+		}
+
+	}
+
+}
@@ -0,0 +1,103 @@
+package com.simibubi.create.benchmark;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.mojang.blaze3d.vertex.BufferBuilder;
+import com.mojang.blaze3d.vertex.DefaultVertexFormat;
+import com.mojang.blaze3d.vertex.PoseStack;
+import com.mojang.blaze3d.vertex.VertexFormat;
+import com.mojang.datafixers.util.Pair;
+import com.mojang.math.Vector3f;
+import com.simibubi.create.foundation.render.SuperByteBuffer;
+import com.simibubi.create.foundation.render.SuperByteBufferBatch;
+
+import net.minecraft.client.renderer.LightTexture;
+import net.minecraft.client.renderer.texture.OverlayTexture;
+
+/**
+ * Draws a set of rotated buffers into a buffer builder, one at a time and as a
+ * batch. Buffers are rendered for entities with a fixed light, as looking up
+ * world light and the level's diffuse shading need a running game. Needs no GL
+ * context, buffer builders only allocate memory.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class SuperByteBufferBenchmark {
+
+	private static final int BUFFERS = 16;
+	private static final int QUADS = 1024;
+
+	private final SuperByteBuffer[] buffers = new SuperByteBuffer[BUFFERS];
+	private final SuperByteBufferBatch batch = new SuperByteBufferBatch();
+	private final PoseStack poseStack = new PoseStack();
+	private BufferBuilder target;
+
+	@Setup
+	public void setup() {
+		BenchmarkBootstrap.run();
+		Random random = new Random(42);
+		BufferBuilder builder = new BufferBuilder(QUADS * 4 * DefaultVertexFormat.BLOCK.getVertexSize());
+		for (int i = 0; i < BUFFERS; i++) {
+			builder.begin(VertexFormat.Mode.QUADS, DefaultVertexFormat.BLOCK);
+			for (int v = 0; v < QUADS * 4; v++)
+				builder.vertex(random.nextFloat(), random.nextFloat(), random.nextFloat(), 1, 1, 1, 1, random.nextFloat(),
+					random.nextFloat(), OverlayTexture.NO_OVERLAY, LightTexture.FULL_BRIGHT, 0, 1, 0);
+			builder.end();
+			Pair<BufferBuilder.DrawState, ByteBuffer> data = builder.popNextBuffer();
+			buffers[i] = new SuperByteBuffer(data.getSecond(), data.getFirst());
+		}
+		target = new BufferBuilder(BUFFERS * QUADS * 4 * DefaultVertexFormat.NEW_ENTITY.getVertexSize());
+		poseStack.translate(12, 64, -3);
+	}
+
+	@TearDown
+	public void tearDown() {
+		for (SuperByteBuffer buffer : buffers)
+			buffer.delete();
+	}
+
+	@Benchmark
+	public void renderInto() {
+		target.begin(VertexFormat.Mode.QUADS, DefaultVertexFormat.NEW_ENTITY);
+		for (int i = 0; i < BUFFERS; i++)
+			transform(buffers[i], i).renderInto(poseStack, target);
+		target.end();
+		target.popNextBuffer();
+	}
+
+	@Benchmark
+	public void batch() {
+		target.begin(VertexFormat.Mode.QUADS, DefaultVertexFormat.NEW_ENTITY);
+		for (int i = 0; i < BUFFERS; i++)
+			batch.add(transform(buffers[i], i), poseStack);
+		batch.renderInto(target);
+		target.end();
+		target.popNextBuffer();
+	}
+
+	private static SuperByteBuffer transform(SuperByteBuffer buffer, int index) {
+		return buffer.translate(index, 0, 0)
+			.rotateCentered(Vector3f.YP.rotationDegrees(index * 22.5f))
+			.forEntityRender()
+			.light(LightTexture.FULL_BRIGHT);
+	}
+
+}
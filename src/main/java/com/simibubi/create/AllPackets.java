@@ -3,8 +3,12 @@ package com.simibubi.create;
 import static com.simibubi.create.foundation.networking.SimplePacketBase.NetworkDirection.PLAY_TO_CLIENT;
 import static com.simibubi.create.foundation.networking.SimplePacketBase.NetworkDirection.PLAY_TO_SERVER;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.function.Function;
 
+import javax.annotation.Nullable;
+
 import com.simibubi.create.compat.computercraft.AttachedComputerPacket;
 import com.simibubi.create.content.contraptions.ContraptionBlockChangedPacket;
 import com.simibubi.create.content.contraptions.ContraptionColliderLockPacket;
@@ -29,6 +33,8 @@ import com.simibubi.create.content.contraptions.sync.ClientMotionPacket;
 import com.simibubi.create.content.contraptions.sync.ContraptionFluidPacket;
 import com.simibubi.create.content.contraptions.sync.ContraptionInteractionPacket;
 import com.simibubi.create.content.contraptions.sync.ContraptionSeatMappingPacket;
+import com.simibubi.create.content.contraptions.sync.ContraptionSpawnDataPacket;
+import com.simibubi.create.content.contraptions.sync.ContraptionSpawnDataRequestPacket;
 import com.simibubi.create.content.contraptions.sync.LimbSwingUpdatePacket;
 import com.simibubi.create.content.equipment.bell.SoulPulseEffectPacket;
 import com.simibubi.create.content.equipment.blueprint.BlueprintAssignCompleteRecipePacket;
@@ -46,6 +52,7 @@ import com.simibubi.create.content.fluids.transfer.FluidSplashPacket;
 import com.simibubi.create.content.kinetics.gauge.GaugeObservedPacket;
 import com.simibubi.create.content.kinetics.mechanicalArm.ArmPlacementPacket;
 import com.simibubi.create.content.kinetics.transmission.sequencer.ConfigureSequencedGearshiftPacket;
+import com.simibubi.create.content.logistics.chute.ChuteColumnPacket;
 import com.simibubi.create.content.logistics.depot.EjectorAwardPacket;
 import com.simibubi.create.content.logistics.depot.EjectorElytraPacket;
 import com.simibubi.create.content.logistics.depot.EjectorPlacementPacket;
@@ -80,6 +87,7 @@ import com.simibubi.create.content.trains.station.TrainEditPacket.TrainEditRetur
 import com.simibubi.create.content.trains.track.CurvedTrackDestroyPacket;
 import com.simibubi.create.content.trains.track.CurvedTrackSelectionPacket;
 import com.simibubi.create.content.trains.track.PlaceExtendedCurvePacket;
+import com.simibubi.create.foundation.blockEntity.BlockEntitySyncBundlePacket;
 import com.simibubi.create.foundation.blockEntity.RemoveBlockEntityPacket;
 import com.simibubi.create.foundation.blockEntity.behaviour.ValueSettingsPacket;
 import com.simibubi.create.foundation.config.ui.CConfigureConfigPacket;
@@ -161,6 +169,8 @@ public enum AllPackets {
 	CLIPBOARD_EDIT(ClipboardEditPacket.class, ClipboardEditPacket::new, PLAY_TO_SERVER),
 	CONTRAPTION_COLLIDER_LOCK_REQUEST(ContraptionColliderLockPacketRequest.class,
 		ContraptionColliderLockPacketRequest::new, PLAY_TO_SERVER),
+	CONTRAPTION_SPAWN_DATA_REQUEST(ContraptionSpawnDataRequestPacket.class, ContraptionSpawnDataRequestPacket::new,
+		PLAY_TO_SERVER),
 
 	// Server to Client
 	SYMMETRY_EFFECT(SymmetryEffectPacket.class, SymmetryEffectPacket::new, PLAY_TO_CLIENT),
@@ -202,15 +212,19 @@ public enum AllPackets {
 	CONTRAPTION_COLLIDER_LOCK(ContraptionColliderLockPacket.class, ContraptionColliderLockPacket::new, PLAY_TO_CLIENT),
 	ATTACHED_COMPUTER(AttachedComputerPacket.class, AttachedComputerPacket::new, PLAY_TO_CLIENT),
 	SERVER_DEBUG_INFO(ServerDebugInfoPacket.class, ServerDebugInfoPacket::new, PLAY_TO_CLIENT),
+	CONTRAPTION_SPAWN_DATA(ContraptionSpawnDataPacket.class, ContraptionSpawnDataPacket::new, PLAY_TO_CLIENT),
+	CHUTE_COLUMN(ChuteColumnPacket.class, ChuteColumnPacket::new, PLAY_TO_CLIENT),
 
 	// fabric: extra packet in place of custom entity data serializer
-	CARRIAGE_DATA_UPDATE(CarriageDataUpdatePacket.class, CarriageDataUpdatePacket::new, PLAY_TO_CLIENT)
+	CARRIAGE_DATA_UPDATE(CarriageDataUpdatePacket.class, CarriageDataUpdatePacket::new, PLAY_TO_CLIENT),
+	SYNC_BLOCK_ENTITIES(BlockEntitySyncBundlePacket.class, BlockEntitySyncBundlePacket::new, PLAY_TO_CLIENT)
 	;
 
 	public static final ResourceLocation CHANNEL_NAME = Create.asResource("main");
-	public static final int NETWORK_VERSION = 3;
+	public static final int NETWORK_VERSION = 6;
 	public static final String NETWORK_VERSION_STR = String.valueOf(NETWORK_VERSION);
 	private static SimpleChannel channel;
+	private static final Map<Class<?>, AllPackets> BY_CLASS = new HashMap<>();
 
 	private PacketType<?> packetType;
 
@@ -221,8 +235,15 @@ public enum AllPackets {
 
 	public static void registerPackets() {
 		channel = new SimpleChannel(CHANNEL_NAME);
-		for (AllPackets packet : values())
+		for (AllPackets packet : values()) {
 			packet.packetType.register();
+			BY_CLASS.put(packet.packetType.type, packet);
+		}
+	}
+
+	@Nullable
+	public static AllPackets byClass(Class<?> type) {
+		return BY_CLASS.get(type);
 	}
 
 	public static SimpleChannel getChannel() {
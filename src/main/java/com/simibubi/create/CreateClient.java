@@ -96,8 +96,10 @@ public class CreateClient implements ClientModInitializer {
 		BUFFER_CACHE.registerCompartment(CachedBufferer.DIRECTIONAL_PARTIAL);
 		BUFFER_CACHE.registerCompartment(KineticBlockEntityRenderer.KINETIC_BLOCK);
 		BUFFER_CACHE.registerCompartment(WaterWheelRenderer.WATER_WHEEL);
-		BUFFER_CACHE.registerCompartment(SBBContraptionManager.CONTRAPTION, 20);
-		BUFFER_CACHE.registerCompartment(WorldSectionElement.DOC_WORLD_SECTION, 20);
+		BUFFER_CACHE.registerCompartment(SBBContraptionManager.CONTRAPTION, 20,
+			() -> AllConfigs.client().contraptionBufferCacheLimit.get());
+		BUFFER_CACHE.registerCompartment(WorldSectionElement.DOC_WORLD_SECTION, 20,
+			() -> AllConfigs.client().contraptionBufferCacheLimit.get());
 
 		AllKeys.register();
 		AllPartialModels.init();
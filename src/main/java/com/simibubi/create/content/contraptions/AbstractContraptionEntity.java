@@ -34,6 +34,8 @@ import com.simibubi.create.content.contraptions.glue.SuperGlueEntity;
 import com.simibubi.create.content.contraptions.mounted.MountedContraption;
 import com.simibubi.create.content.contraptions.render.ContraptionRenderDispatcher;
 import com.simibubi.create.content.contraptions.sync.ContraptionSeatMappingPacket;
+import com.simibubi.create.content.contraptions.sync.ContraptionSpawnDataRequestPacket;
+import com.simibubi.create.content.contraptions.sync.ContraptionSyncCache;
 import com.simibubi.create.content.decoration.slidingDoor.SlidingDoorBlock;
 import com.simibubi.create.content.trains.entity.CarriageContraption;
 import com.simibubi.create.content.trains.entity.CarriageContraptionEntity;
@@ -43,6 +45,8 @@ import com.simibubi.create.foundation.collision.Matrix3d;
 import com.simibubi.create.foundation.mixin.accessor.ServerLevelAccessor;
 import com.simibubi.create.foundation.utility.AngleHelper;
 import com.simibubi.create.foundation.utility.VecHelper;
+import com.simibubi.create.infrastructure.profiler.SubsystemProfiler;
+import com.simibubi.create.infrastructure.profiler.SubsystemProfiler.Subsystem;
 import io.github.fabricators_of_create.porting_lib.entity.ExtraSpawnDataEntity;
 import io.github.fabricators_of_create.porting_lib.mixin.common.accessor.EntityAccessor;
 
@@ -98,6 +102,8 @@ public abstract class AbstractContraptionEntity extends Entity implements ExtraS
 	protected boolean initialized;
 	protected boolean prevPosInvalid;
 	private boolean skipActorStop;
+	private boolean awaitingSpawnData;
+	private boolean spawnDataRequested;
 
 	/*
 	 * staleTicks are a band-aid to prevent a frame or two of missing blocks between
@@ -367,6 +373,13 @@ public abstract class AbstractContraptionEntity extends Entity implements ExtraS
 	@Override
 	public void tick() {
 		if (contraption == null) {
+			if (awaitingSpawnData) {
+				if (!spawnDataRequested)
+					AllPackets.getChannel()
+						.sendToServer(new ContraptionSpawnDataRequestPacket(getId()));
+				spawnDataRequested = true;
+				return;
+			}
 			discard();
 			return;
 		}
@@ -383,9 +396,11 @@ public abstract class AbstractContraptionEntity extends Entity implements ExtraS
 		if (!initialized)
 			contraptionInitialize();
 
+		long profilerStart = SubsystemProfiler.start(level);
 		contraption.tickStorage(this);
 		tickContraption();
 		super.tick();
+		SubsystemProfiler.end(profilerStart, Subsystem.CONTRAPTIONS, level, blockPosition());
 
 		if (level.isClientSide())
 			EnvExecutor.runWhenOn(EnvType.CLIENT, () -> () -> {
@@ -434,6 +449,7 @@ public abstract class AbstractContraptionEntity extends Entity implements ExtraS
 
 	public void setBlock(BlockPos localPos, StructureBlockInfo newInfo) {
 		contraption.blocks.put(localPos, newInfo);
+		contraption.invalidateEncodedBlocks();
 		AllPackets.getChannel().sendToClientsTracking(new ContraptionBlockChangedPacket(getId(), localPos, newInfo.state), this);
 	}
 
@@ -614,16 +630,27 @@ public abstract class AbstractContraptionEntity extends Entity implements ExtraS
 
 	@Override
 	public void writeSpawnData(FriendlyByteBuf buffer) {
+		writeSpawnData(buffer, ContraptionSyncCache.getPairingPlayer(), false);
+	}
+
+	public void writeSpawnData(FriendlyByteBuf buffer, @Nullable ServerPlayer player, boolean forceFullBlocks) {
 		CompoundTag compound = new CompoundTag();
 		writeAdditional(compound, true);
 
 		if (ContraptionData.isTooLargeForSync(compound)) {
 			String info = getContraption().getType().id + " @" + position() + " (" + getStringUUID() + ")";
 			Create.LOGGER.warn("Could not send Contraption Spawn Data (Packet too big): " + info);
-			compound = null;
+			buffer.writeNbt(null);
+			return;
 		}
 
+		// Blocks are sent in a compact form that clients can cache across spawns
+		boolean hasContraption = compound.contains("Contraption");
+		compound.getCompound("Contraption")
+			.remove("Blocks");
 		buffer.writeNbt(compound);
+		if (hasContraption)
+			ContraptionSyncCache.writeBlocks(buffer, contraption.getEncodedBlocks(), player, forceFullBlocks);
 	}
 
 	@Override
@@ -641,9 +668,28 @@ public abstract class AbstractContraptionEntity extends Entity implements ExtraS
 	@Override
 	public void readSpawnData(FriendlyByteBuf additionalData) {
 		CompoundTag nbt = additionalData.readAnySizeNbt();
-		if (nbt != null) {
-			readAdditional(nbt, true);
+		if (nbt == null)
+			return;
+
+		if (nbt.contains("Contraption")) {
+			CompoundTag blocks = ContraptionSyncCache.readBlocks(additionalData);
+			if (blocks == null) {
+				// Cached block data is gone, wait for the server to send it again
+				awaitingSpawnData = true;
+				return;
+			}
+			nbt.getCompound("Contraption")
+				.put("Blocks", blocks);
 		}
+
+		awaitingSpawnData = false;
+		readAdditional(nbt, true);
+	}
+
+	public static void skipSpawnData(FriendlyByteBuf buffer) {
+		CompoundTag nbt = buffer.readAnySizeNbt();
+		if (nbt != null && nbt.contains("Contraption"))
+			ContraptionSyncCache.readBlocks(buffer);
 	}
 
 	@Override
@@ -57,6 +57,7 @@ import com.simibubi.create.content.contraptions.pulley.PulleyBlock.RopeBlock;
 import com.simibubi.create.content.contraptions.pulley.PulleyBlockEntity;
 import com.simibubi.create.content.contraptions.render.ContraptionLighter;
 import com.simibubi.create.content.contraptions.render.EmptyLighter;
+import com.simibubi.create.content.contraptions.sync.ContraptionBlocksCodec;
 import com.simibubi.create.content.decoration.slidingDoor.SlidingDoorBlock;
 import com.simibubi.create.content.kinetics.base.BlockBreakingMovementBehaviour;
 import com.simibubi.create.content.kinetics.base.IRotate;
@@ -85,6 +86,10 @@ import io.github.fabricators_of_create.porting_lib.mixin.common.accessor.HashMap
 import io.github.fabricators_of_create.porting_lib.util.FluidStack;
 import io.github.fabricators_of_create.porting_lib.util.LevelUtil;
 import io.github.fabricators_of_create.porting_lib.util.StickinessUtil;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
 import net.fabricmc.fabric.api.transfer.v1.item.ItemVariant;
@@ -94,6 +99,7 @@ import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.core.Direction.Axis;
 import net.minecraft.core.IdMapper;
+import net.minecraft.core.SectionPos;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
 import net.minecraft.nbt.NbtUtils;
@@ -155,10 +161,13 @@ public abstract class Contraption {
 	protected Multimap<BlockPos, StructureBlockInfo> capturedMultiblocks;
 
 	private Set<SuperGlueEntity> glueToRemove;
+	private Long2ObjectMap<List<SuperGlueEntity>> glueBySection;
 	private Map<BlockPos, Entity> initialPassengers;
 	private List<BlockFace> pendingSubContraptions;
 
 	private CompletableFuture<Void> simplifiedEntityColliderProvider;
+	private ContraptionCollisionCache collisionCache;
+	private ContraptionBlocksCodec.Encoded encodedBlocks;
 
 	// Client
 	public Map<BlockPos, BlockEntity> presentBlockEntities;
@@ -236,13 +245,19 @@ public abstract class Contraption {
 			frontier.add(pos);
 		if (!addToInitialFrontier(world, pos, forcedDirection, frontier))
 			return false;
-		for (int limit = 100000; limit > 0; limit--) {
-			if (frontier.isEmpty())
-				return true;
-			if (!moveBlock(world, forcedDirection, frontier, visited))
-				return false;
+
+		glueBySection = new Long2ObjectOpenHashMap<>();
+		try {
+			for (int limit = 100000; limit > 0; limit--) {
+				if (frontier.isEmpty())
+					return true;
+				if (!moveBlock(world, forcedDirection, frontier, visited))
+					return false;
+			}
+			throw AssemblyException.structureTooLarge();
+		} finally {
+			glueBySection = null;
 		}
-		throw AssemblyException.structureTooLarge();
 	}
 
 	public void onEntityCreated(AbstractContraptionEntity entity) {
@@ -402,7 +417,7 @@ public abstract class Contraption {
 			}
 
 			boolean wasVisited = visited.contains(offsetPos);
-			boolean faceHasGlue = SuperGlueEntity.isGlued(world, pos, offset, glueToRemove);
+			boolean faceHasGlue = isGlued(world, pos, offset);
 			boolean blockAttachedTowardsFace =
 				BlockMovementChecks.isBlockAttachedTowards(blockState, world, offsetPos, offset.getOpposite());
 			boolean brittle = BlockMovementChecks.isBrittle(blockState);
@@ -432,6 +447,35 @@ public abstract class Contraption {
 			throw AssemblyException.structureTooLarge();
 	}
 
+	/**
+	 * Glue lookup for the structure search. Glue entities are fetched once per
+	 * chunk section instead of querying the level for every face of every block.
+	 */
+	private boolean isGlued(Level world, BlockPos pos, Direction offset) {
+		if (glueBySection == null)
+			return SuperGlueEntity.isGlued(world, pos, offset, glueToRemove);
+
+		long sectionKey = SectionPos.asLong(pos);
+		List<SuperGlueEntity> glue = glueBySection.get(sectionKey);
+		if (glue == null) {
+			SectionPos section = SectionPos.of(pos);
+			AABB sectionBounds = new AABB(section.minBlockX(), section.minBlockY(), section.minBlockZ(),
+				section.maxBlockX() + 1, section.maxBlockY() + 1, section.maxBlockZ() + 1);
+			// Same margin as SuperGlueEntity.isGlued, large glue entities are tracked by their centre
+			glue = world.getEntitiesOfClass(SuperGlueEntity.class, sectionBounds.inflate(16));
+			glueBySection.put(sectionKey, glue);
+		}
+
+		BlockPos targetPos = pos.relative(offset);
+		for (SuperGlueEntity glueEntity : glue) {
+			if (!glueEntity.contains(pos) || !glueEntity.contains(targetPos))
+				continue;
+			glueToRemove.add(glueEntity);
+			return true;
+		}
+		return false;
+	}
+
 	protected void movePistonHead(Level world, BlockPos pos, Queue<BlockPos> frontier, Set<BlockPos> visited,
 		BlockState state) {
 		Direction direction = state.getValue(MechanicalPistonHeadBlock.FACING);
@@ -640,6 +684,7 @@ public abstract class Contraption {
 
 		if (blocks.put(localPos, structureBlockInfo) != null)
 			return;
+		encodedBlocks = null;
 		bounds = bounds.minmax(new AABB(localPos));
 
 		BlockEntity be = pair.getValue();
@@ -707,6 +752,7 @@ public abstract class Contraption {
 
 	public void readNBT(Level world, CompoundTag nbt, boolean spawnData) {
 		blocks.clear();
+		encodedBlocks = null;
 		presentBlockEntities.clear();
 		specialRenderedBlockEntities.clear();
 
@@ -982,6 +1028,10 @@ public abstract class Contraption {
 		for (int i = 0; i < superglue.size(); i++)
 			minimisedGlue.add(null);
 
+		// World positions this contraption turned into air or water, used to skip
+		// notifying direct neighbours that were removed along with it
+		LongSet cleared = new LongOpenHashSet(blocks.size());
+
 		for (boolean brittles : Iterate.trueAndFalse) {
 			for (Iterator<StructureBlockInfo> iterator = blocks.values()
 				.iterator(); iterator.hasNext();) {
@@ -1013,6 +1063,7 @@ public abstract class Contraption {
 				world.removeBlockEntity(add);
 				int flags = Block.UPDATE_MOVE_BY_PISTON | Block.UPDATE_SUPPRESS_DROPS | Block.UPDATE_KNOWN_SHAPE
 					| Block.UPDATE_CLIENTS | Block.UPDATE_IMMEDIATE;
+				cleared.add(add.asLong());
 				if (blockIn instanceof SimpleWaterloggedBlock && oldState.hasProperty(BlockStateProperties.WATERLOGGED)
 					&& oldState.getValue(BlockStateProperties.WATERLOGGED)) {
 					world.setBlock(add, Blocks.WATER.defaultBlockState(), flags);
@@ -1036,8 +1087,15 @@ public abstract class Contraption {
 				.offset(offset);
 //			if (!shouldUpdateAfterMovement(block))
 //				continue;
-
 			int flags = Block.UPDATE_MOVE_BY_PISTON | Block.UPDATE_ALL;
+
+			// Direct updates would only reach positions cleared along with this one.
+			// Diagonal ones, such as redstone wire connections, can still leave it
+			if (isEnclosed(cleared, add)) {
+				block.state.updateIndirectNeighbourShapes(world, add, flags & -2);
+				continue;
+			}
+
 			world.sendBlockUpdated(add, block.state, Blocks.AIR.defaultBlockState(), flags);
 
 			// when the blockstate is set to air, the block's POI data is removed, but
@@ -1069,6 +1127,10 @@ public abstract class Contraption {
 
 		translateMultiblockControllers(transform);
 
+		// Neighbour and shape updates are deferred to the pass below, so that
+		// blocks placed next to each other do not notify one another repeatedly
+		int placementFlags = Block.UPDATE_MOVE_BY_PISTON | Block.UPDATE_CLIENTS | Block.UPDATE_KNOWN_SHAPE;
+
 		for (boolean nonBrittles : Iterate.trueAndFalse) {
 			for (StructureBlockInfo block : blocks.values()) {
 				if (nonBrittles == BlockMovementChecks.isBrittle(block.state))
@@ -1110,7 +1172,8 @@ public abstract class Contraption {
 					state = state.setValue(SlidingDoorBlock.VISIBLE, !state.getValue(SlidingDoorBlock.OPEN))
 						.setValue(SlidingDoorBlock.POWERED, false);
 
-				world.setBlock(targetPos, state, Block.UPDATE_MOVE_BY_PISTON | Block.UPDATE_ALL);
+				world.setBlock(targetPos, state, shouldUpdateAfterMovement(block) ? placementFlags
+					: Block.UPDATE_MOVE_BY_PISTON | Block.UPDATE_ALL);
 
 				boolean verticalRotation = transform.rotationAxis == null || transform.rotationAxis.isHorizontal();
 				verticalRotation = verticalRotation && transform.rotation != Rotation.NONE;
@@ -1154,7 +1217,8 @@ public abstract class Contraption {
 			if (!shouldUpdateAfterMovement(block))
 				continue;
 			BlockPos targetPos = transform.apply(block.pos);
-			LevelUtil.markAndNotifyBlock(world, targetPos, world.getChunkAt(targetPos), block.state, block.state,
+			BlockState placed = world.getBlockState(targetPos);
+			LevelUtil.markAndNotifyBlock(world, targetPos, world.getChunkAt(targetPos), placed, placed,
 					Block.UPDATE_MOVE_BY_PISTON | Block.UPDATE_ALL, 512);
 		}
 
@@ -1168,7 +1232,15 @@ public abstract class Contraption {
 		storage.clear();
 	}
 
+	private static boolean isEnclosed(LongSet cleared, BlockPos pos) {
+		for (Direction direction : Iterate.directions)
+			if (!cleared.contains(BlockPos.offset(pos.asLong(), direction)))
+				return false;
+		return true;
+	}
+
 	protected void translateMultiblockControllers(StructureTransform transform) {
+		encodedBlocks = null;
 		if (transform.rotationAxis != null && transform.rotationAxis != Axis.Y && transform.rotation != Rotation.NONE) {
 			capturedMultiblocks.values().forEach(info -> {
 				info.nbt.put("LastKnownPos", NbtUtils.writeBlockPos(BlockPos.ZERO.below(Integer.MAX_VALUE - 1)));
@@ -1382,8 +1454,23 @@ public abstract class Contraption {
 		return new EmptyLighter(this);
 	}
 
+	/**
+	 * The block section of the spawn packet. Encoded once and shared by every
+	 * player the contraption is sent to, until its blocks change.
+	 */
+	public ContraptionBlocksCodec.Encoded getEncodedBlocks() {
+		if (encodedBlocks == null)
+			encodedBlocks = ContraptionBlocksCodec.encodeAndHash(blocks.values());
+		return encodedBlocks;
+	}
+
+	public void invalidateEncodedBlocks() {
+		encodedBlocks = null;
+	}
+
 	public void invalidateColliders() {
 		simplifiedEntityColliders = Optional.empty();
+		collisionCache = null;
 		gatherBBsOffThread();
 	}
 
@@ -1467,6 +1554,12 @@ public abstract class Contraption {
 		return simplifiedEntityColliders;
 	}
 
+	public ContraptionCollisionCache getCollisionCache(Level world) {
+		if (collisionCache == null)
+			collisionCache = ContraptionCollisionCache.build(world, this);
+		return collisionCache;
+	}
+
 	public void handleContraptionFluidPacket(BlockPos localPos, FluidStack containedFluid) {
 		storage.updateContainedFluid(localPos, containedFluid);
 	}
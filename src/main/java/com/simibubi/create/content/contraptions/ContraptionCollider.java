@@ -3,7 +3,6 @@ package com.simibubi.create.content.contraptions;
 import static net.minecraft.world.entity.Entity.collideBoundingBox;
 
 import java.lang.ref.WeakReference;
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -14,7 +13,6 @@ import org.apache.commons.lang3.mutable.MutableFloat;
 import org.apache.commons.lang3.mutable.MutableObject;
 import org.apache.commons.lang3.tuple.MutablePair;
 
-import com.google.common.base.Predicates;
 import com.simibubi.create.AllBlocks;
 import com.simibubi.create.AllMovementBehaviours;
 import com.simibubi.create.AllPackets;
@@ -77,7 +75,7 @@ public class ContraptionCollider {
 	private static MutablePair<WeakReference<AbstractContraptionEntity>, Double> safetyLock = new MutablePair<>();
 	private static Map<AbstractContraptionEntity, Map<Player, Double>> remoteSafetyLocks = new WeakHashMap<>();
 
-	static void collideEntities(AbstractContraptionEntity contraptionEntity) {
+	static void collideEntities(AbstractContraptionEntity contraptionEntity, List<Entity> entitiesWithinAABB) {
 		Level world = contraptionEntity.getCommandSenderWorld();
 		Contraption contraption = contraptionEntity.getContraption();
 		AABB bounds = contraptionEntity.getBoundingBox();
@@ -99,8 +97,6 @@ public class ContraptionCollider {
 		// After death, multiple refs to the client player may show up in the area
 		boolean skipClientPlayer = false;
 
-		List<Entity> entitiesWithinAABB = world.getEntitiesOfClass(Entity.class, bounds.inflate(2)
-			.expandTowards(0, 32, 0), contraptionEntity::canCollideWith);
 		for (Entity entity : entitiesWithinAABB) {
 			if (!entity.isAlive())
 				continue;
@@ -154,17 +150,8 @@ public class ContraptionCollider {
 			// Use simplified bbs when present
 			final Vec3 motionCopy = motion;
 			List<AABB> collidableBBs = contraption.getSimplifiedEntityColliders()
-				.orElseGet(() -> {
-
-					// Else find 'nearby' individual block shapes to collide with
-					List<AABB> bbs = new ArrayList<>();
-					List<VoxelShape> potentialHits =
-						getPotentiallyCollidedShapes(world, contraption, localBB.expandTowards(motionCopy));
-					potentialHits.forEach(shape -> shape.toAabbs()
-						.forEach(bbs::add));
-					return bbs;
-
-				});
+				// Else find 'nearby' individual block shapes to collide with
+				.orElseGet(() -> getPotentiallyCollidedBBs(world, contraption, localBB.expandTowards(motionCopy)));
 
 			MutableObject<Vec3> collisionResponse = new MutableObject<>(Vec3.ZERO);
 			MutableObject<Vec3> normal = new MutableObject<>(Vec3.ZERO);
@@ -656,7 +643,7 @@ public class ContraptionCollider {
 		return entity instanceof LocalPlayer;
 	}
 
-	private static List<VoxelShape> getPotentiallyCollidedShapes(Level world, Contraption contraption, AABB localBB) {
+	private static List<AABB> getPotentiallyCollidedBBs(Level world, Contraption contraption, AABB localBB) {
 
 		double height = localBB.getYsize();
 		double width = localBB.getXsize();
@@ -665,24 +652,8 @@ public class ContraptionCollider {
 		AABB blockScanBB = localBB.inflate(0.5f);
 		blockScanBB = blockScanBB.inflate(horizontalFactor, verticalFactor, horizontalFactor);
 
-		BlockPos min = new BlockPos(blockScanBB.minX, blockScanBB.minY, blockScanBB.minZ);
-		BlockPos max = new BlockPos(blockScanBB.maxX, blockScanBB.maxY, blockScanBB.maxZ);
-
-		List<VoxelShape> potentialHits = BlockPos.betweenClosedStream(min, max)
-			.filter(contraption.getBlocks()::containsKey)
-			.filter(Predicates.not(contraption::isHiddenInPortal))
-			.map(p -> {
-				BlockState blockState = contraption.getBlocks()
-					.get(p).state;
-				BlockPos pos = contraption.getBlocks()
-					.get(p).pos;
-				VoxelShape collisionShape = blockState.getCollisionShape(world, p);
-				return collisionShape.move(pos.getX(), pos.getY(), pos.getZ());
-			})
-			.filter(Predicates.not(VoxelShape::isEmpty))
-			.toList();
-
-		return potentialHits;
+		return contraption.getCollisionCache(world)
+			.getPotentiallyCollidedBBs(contraption, blockScanBB);
 	}
 
 	public static boolean collideBlocks(AbstractContraptionEntity contraptionEntity) {
@@ -0,0 +1,155 @@
+package com.simibubi.create.content.contraptions;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.AABB;
+
+/**
+ * Pairs every loaded contraption of a level with the entities it may collide
+ * with, once per tick. Query boxes are swept along the x axis and merged into
+ * groups of overlapping boxes, so that each group queries the level for entities
+ * only once, no matter how many contraptions crowd the same area. Groups are
+ * only merged while their combined box stays close to the volume of the boxes
+ * it replaces, so that a long diagonal chain does not turn into one huge query.
+ * <br>
+ * The narrow phase stays in {@link ContraptionCollider#collideEntities}.
+ */
+public class ContraptionCollisionBroadphase {
+
+	// How much larger a merged box may be than the boxes in it, summed
+	private static final double MAX_MERGED_VOLUME_RATIO = 2;
+
+	private final List<Candidate> candidates = new ArrayList<>();
+
+	private int contraptions;
+	private int entityQueries;
+	private int pairs;
+
+	public void collect(AbstractContraptionEntity contraptionEntity) {
+		if (contraptionEntity.getContraption() == null)
+			return;
+		AABB bounds = contraptionEntity.getBoundingBox();
+		if (bounds == null)
+			return;
+		candidates.add(new Candidate(contraptionEntity, bounds.inflate(2)
+			.expandTowards(0, 32, 0)));
+	}
+
+	public void run(Level world) {
+		contraptions = candidates.size();
+		entityQueries = 0;
+		pairs = 0;
+
+		List<Candidate> sorted = new ArrayList<>(candidates);
+		sorted.sort(Comparator.comparingDouble(c -> c.queryBox.minX));
+
+		// Sweep and prune along x, union-find on full box overlap
+		for (int i = 0; i < sorted.size(); i++) {
+			Candidate a = sorted.get(i);
+			for (int j = i + 1; j < sorted.size(); j++) {
+				Candidate b = sorted.get(j);
+				if (b.queryBox.minX > a.queryBox.maxX)
+					break;
+				if (a.queryBox.intersects(b.queryBox))
+					merge(a.find(), b.find());
+			}
+		}
+
+		Map<Candidate, List<Candidate>> groups = new LinkedHashMap<>();
+		for (Candidate candidate : sorted)
+			groups.computeIfAbsent(candidate.find(), $ -> new ArrayList<>())
+				.add(candidate);
+
+		for (Map.Entry<Candidate, List<Candidate>> entry : groups.entrySet()) {
+			List<Candidate> group = entry.getValue();
+			entityQueries++;
+			List<Entity> entities = world.getEntitiesOfClass(Entity.class, entry.getKey().groupBox, e -> true);
+			for (Entity entity : entities) {
+				AABB entityBounds = entity.getBoundingBox();
+				for (Candidate candidate : group) {
+					if (!entityBounds.intersects(candidate.queryBox))
+						continue;
+					if (!candidate.contraptionEntity.canCollideWith(entity))
+						continue;
+					candidate.entities.add(entity);
+					pairs++;
+				}
+			}
+		}
+
+		for (Candidate candidate : candidates)
+			ContraptionCollider.collideEntities(candidate.contraptionEntity, candidate.entities);
+		candidates.clear();
+	}
+
+	private static void merge(Candidate a, Candidate b) {
+		if (a == b)
+			return;
+		AABB merged = a.groupBox.minmax(b.groupBox);
+		if (volume(merged) > (a.volume + b.volume) * MAX_MERGED_VOLUME_RATIO)
+			return;
+		b.group = a;
+		a.groupBox = merged;
+		a.volume += b.volume;
+	}
+
+	private static double volume(AABB box) {
+		return box.getXsize() * box.getYsize() * box.getZsize();
+	}
+
+	/**
+	 * @return the number of contraptions considered in the last tick
+	 */
+	public int getContraptionCount() {
+		return contraptions;
+	}
+
+	/**
+	 * @return the number of entity lookups issued to the level in the last tick
+	 */
+	public int getEntityQueryCount() {
+		return entityQueries;
+	}
+
+	/**
+	 * @return the number of contraption-entity pairs handed to the narrow phase in
+	 *         the last tick
+	 */
+	public int getPairCount() {
+		return pairs;
+	}
+
+	private static class Candidate {
+		private final AbstractContraptionEntity contraptionEntity;
+		private final AABB queryBox;
+		private final List<Entity> entities;
+		private Candidate group;
+		// Only kept up to date on the root of a group
+		private AABB groupBox;
+		private double volume;
+
+		private Candidate(AbstractContraptionEntity contraptionEntity, AABB queryBox) {
+			this.contraptionEntity = contraptionEntity;
+			this.queryBox = queryBox;
+			this.entities = new ArrayList<>();
+			this.group = this;
+			this.groupBox = queryBox;
+			this.volume = volume(queryBox);
+		}
+
+		private Candidate find() {
+			Candidate root = this;
+			while (root.group != root)
+				root = root.group;
+			group = root;
+			return root;
+		}
+	}
+
+}
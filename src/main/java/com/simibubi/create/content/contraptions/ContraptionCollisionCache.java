@@ -0,0 +1,144 @@
+package com.simibubi.create.content.contraptions;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map.Entry;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.BlockPos.MutableBlockPos;
+import net.minecraft.util.Mth;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.levelgen.structure.templatesystem.StructureTemplate.StructureBlockInfo;
+import net.minecraft.world.phys.AABB;
+import net.minecraft.world.phys.shapes.VoxelShape;
+
+/**
+ * Per-contraption lookup of block collision boxes in local space. Built lazily on
+ * the first entity query and dropped by {@link Contraption#invalidateColliders()}.
+ * <br>
+ * Occupancy is stored as a bitset over the local block grid (x-major rows), so an
+ * entity query only walks the set bits of each row crossing its scan box.
+ */
+public class ContraptionCollisionCache {
+
+	// Grids larger than this skip the bitset and probe the box map per position instead
+	private static final long MAX_GRID_VOLUME = 1 << 24;
+
+	private final Long2ObjectMap<AABB[]> boxes;
+	private BitSet occupied;
+	private int minX, minY, minZ;
+	private int sizeX, sizeY, sizeZ;
+
+	private ContraptionCollisionCache() {
+		boxes = new Long2ObjectOpenHashMap<>();
+	}
+
+	public static ContraptionCollisionCache build(Level world, Contraption contraption) {
+		ContraptionCollisionCache cache = new ContraptionCollisionCache();
+		int minX = Integer.MAX_VALUE, minY = Integer.MAX_VALUE, minZ = Integer.MAX_VALUE;
+		int maxX = Integer.MIN_VALUE, maxY = Integer.MIN_VALUE, maxZ = Integer.MIN_VALUE;
+
+		for (Entry<BlockPos, StructureBlockInfo> entry : contraption.getBlocks()
+			.entrySet()) {
+			BlockPos localPos = entry.getKey();
+			StructureBlockInfo info = entry.getValue();
+			VoxelShape collisionShape = info.state.getCollisionShape(world, localPos);
+			if (collisionShape.isEmpty())
+				continue;
+
+			BlockPos pos = info.pos;
+			List<AABB> bbs = collisionShape.move(pos.getX(), pos.getY(), pos.getZ())
+				.toAabbs();
+			cache.boxes.put(localPos.asLong(), bbs.toArray(AABB[]::new));
+
+			minX = Math.min(minX, localPos.getX());
+			minY = Math.min(minY, localPos.getY());
+			minZ = Math.min(minZ, localPos.getZ());
+			maxX = Math.max(maxX, localPos.getX());
+			maxY = Math.max(maxY, localPos.getY());
+			maxZ = Math.max(maxZ, localPos.getZ());
+		}
+
+		if (cache.boxes.isEmpty())
+			return cache;
+
+		long volume = (long) (maxX - minX + 1) * (maxY - minY + 1) * (maxZ - minZ + 1);
+		if (volume > MAX_GRID_VOLUME)
+			return cache;
+
+		cache.minX = minX;
+		cache.minY = minY;
+		cache.minZ = minZ;
+		cache.sizeX = maxX - minX + 1;
+		cache.sizeY = maxY - minY + 1;
+		cache.sizeZ = maxZ - minZ + 1;
+		cache.occupied = new BitSet((int) volume);
+		for (long key : cache.boxes.keySet())
+			cache.occupied.set(cache.indexOf(BlockPos.getX(key), BlockPos.getY(key), BlockPos.getZ(key)));
+		return cache;
+	}
+
+	/**
+	 * Collects the cached collision boxes of all blocks within the given local
+	 * scan box, skipping positions the contraption currently hides in a portal.
+	 */
+	public List<AABB> getPotentiallyCollidedBBs(Contraption contraption, AABB blockScanBB) {
+		List<AABB> bbs = new ArrayList<>();
+		if (boxes.isEmpty())
+			return bbs;
+
+		int x0 = Mth.floor(blockScanBB.minX);
+		int y0 = Mth.floor(blockScanBB.minY);
+		int z0 = Mth.floor(blockScanBB.minZ);
+		int x1 = Mth.floor(blockScanBB.maxX);
+		int y1 = Mth.floor(blockScanBB.maxY);
+		int z1 = Mth.floor(blockScanBB.maxZ);
+		MutableBlockPos pos = new MutableBlockPos();
+
+		if (occupied == null) {
+			for (int y = y0; y <= y1; y++)
+				for (int z = z0; z <= z1; z++)
+					for (int x = x0; x <= x1; x++)
+						collect(contraption, pos.set(x, y, z), bbs);
+			return bbs;
+		}
+
+		x0 = Math.max(x0, minX);
+		y0 = Math.max(y0, minY);
+		z0 = Math.max(z0, minZ);
+		x1 = Math.min(x1, minX + sizeX - 1);
+		y1 = Math.min(y1, minY + sizeY - 1);
+		z1 = Math.min(z1, minZ + sizeZ - 1);
+		if (x0 > x1 || y0 > y1 || z0 > z1)
+			return bbs;
+
+		for (int y = y0; y <= y1; y++) {
+			for (int z = z0; z <= z1; z++) {
+				int rowStart = indexOf(minX, y, z);
+				int from = rowStart + x0 - minX;
+				int to = rowStart + x1 - minX;
+				for (int i = occupied.nextSetBit(from); i >= 0 && i <= to; i = occupied.nextSetBit(i + 1))
+					collect(contraption, pos.set(minX + i - rowStart, y, z), bbs);
+			}
+		}
+		return bbs;
+	}
+
+	private void collect(Contraption contraption, BlockPos pos, List<AABB> bbs) {
+		AABB[] cached = boxes.get(pos.asLong());
+		if (cached == null)
+			return;
+		if (contraption.isHiddenInPortal(pos))
+			return;
+		for (AABB bb : cached)
+			bbs.add(bb);
+	}
+
+	private int indexOf(int x, int y, int z) {
+		return (x - minX) + sizeX * ((z - minZ) + sizeZ * (y - minY));
+	}
+
+}
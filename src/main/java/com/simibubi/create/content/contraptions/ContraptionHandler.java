@@ -25,15 +25,18 @@ public class ContraptionHandler {
 
 	public static WorldAttached<Map<Integer, WeakReference<AbstractContraptionEntity>>> loadedContraptions;
 	static WorldAttached<List<AbstractContraptionEntity>> queuedAdditions;
+	public static WorldAttached<ContraptionCollisionBroadphase> collisionBroadphase;
 
 	static {
 		loadedContraptions = new WorldAttached<>($ -> new HashMap<>());
 		queuedAdditions = new WorldAttached<>($ -> ObjectLists.synchronize(new ObjectArrayList<>()));
+		collisionBroadphase = new WorldAttached<>($ -> new ContraptionCollisionBroadphase());
 	}
 
 	public static void tick(Level world) {
 		Map<Integer, WeakReference<AbstractContraptionEntity>> map = loadedContraptions.get(world);
 		List<AbstractContraptionEntity> queued = queuedAdditions.get(world);
+		ContraptionCollisionBroadphase broadphase = collisionBroadphase.get(world);
 
 		for (AbstractContraptionEntity contraptionEntity : queued)
 			map.put(contraptionEntity.getId(), new WeakReference<>(contraptionEntity));
@@ -52,8 +55,10 @@ public class ContraptionHandler {
 				continue;
 			}
 
-			ContraptionCollider.collideEntities(contraptionEntity);
+			broadphase.collect(contraptionEntity);
 		}
+
+		broadphase.run(world);
 	}
 
 	public static void addSpawnedContraptionsToCollisionList(Entity entity, Level world) {
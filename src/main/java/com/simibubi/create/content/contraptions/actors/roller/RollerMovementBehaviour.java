@@ -478,8 +478,8 @@ public class RollerMovementBehaviour extends BlockBreakingMovementBehaviour {
 			return PaveResult.FAIL;
 
 		FilterItemStack filter = context.getFilterFromBE();
-		ItemStack held = ItemHelper.extract(context.contraption.getSharedInventory(),
-			stack -> filter.test(context.world, stack), 1, false);
+		ItemStack held = ItemHelper.extractMatching(context.contraption.getSharedInventory(),
+			variant -> filter.test(context.world, variant), 1, false);
 		if (held.isEmpty())
 			return PaveResult.FAIL;
 
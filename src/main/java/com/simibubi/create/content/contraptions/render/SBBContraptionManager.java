@@ -6,6 +6,7 @@ import com.mojang.blaze3d.vertex.VertexConsumer;
 import com.simibubi.create.CreateClient;
 import com.simibubi.create.content.contraptions.Contraption;
 import com.simibubi.create.foundation.render.SuperByteBuffer;
+import com.simibubi.create.foundation.render.SuperByteBufferBatch;
 import com.simibubi.create.foundation.render.SuperByteBufferCache;
 import com.simibubi.create.foundation.utility.Pair;
 
@@ -13,7 +14,9 @@ import net.minecraft.client.renderer.RenderType;
 import net.minecraft.world.level.LevelAccessor;
 
 public class SBBContraptionManager extends ContraptionRenderingWorld<ContraptionRenderInfo> {
-	public static final SuperByteBufferCache.Compartment<Pair<Contraption, RenderType>> CONTRAPTION = new SuperByteBufferCache.Compartment<>();
+	public static final SuperByteBufferCache.Compartment<Pair<Contraption, RenderType>> CONTRAPTION = new SuperByteBufferCache.Compartment<>("Contraptions");
+
+	private final SuperByteBufferBatch batch = new SuperByteBufferBatch();
 
 	public SBBContraptionManager(LevelAccessor world) {
 		super(world);
@@ -25,7 +28,8 @@ public class SBBContraptionManager extends ContraptionRenderingWorld<Contraption
 		RenderType type = event.getType();
 		VertexConsumer consumer = event.buffers.bufferSource()
 				.getBuffer(type);
-		visible.forEach(info -> renderContraptionLayerSBB(info, type, consumer));
+		visible.forEach(info -> renderContraptionLayerSBB(info, type));
+		batch.renderInto(consumer);
 
 		event.buffers.bufferSource().endBatch(type);
 	}
@@ -44,7 +48,7 @@ public class SBBContraptionManager extends ContraptionRenderingWorld<Contraption
 		return new ContraptionRenderInfo(c, renderWorld);
 	}
 
-	private void renderContraptionLayerSBB(ContraptionRenderInfo renderInfo, RenderType layer, VertexConsumer consumer) {
+	private void renderContraptionLayerSBB(ContraptionRenderInfo renderInfo, RenderType layer) {
 		if (!renderInfo.isVisible()) return;
 
 		SuperByteBuffer contraptionBuffer = CreateClient.BUFFER_CACHE.get(CONTRAPTION, Pair.of(renderInfo.contraption, layer), () -> ContraptionRenderDispatcher.buildStructureBuffer(renderInfo.renderWorld, renderInfo.contraption, layer));
@@ -54,8 +58,8 @@ public class SBBContraptionManager extends ContraptionRenderingWorld<Contraption
 
 			contraptionBuffer.transform(matrices.getModel())
 					.light(matrices.getWorld())
-					.hybridLight()
-					.renderInto(matrices.getViewProjection(), consumer);
+					.hybridLight();
+			batch.add(contraptionBuffer, matrices.getViewProjection());
 		}
 
 	}
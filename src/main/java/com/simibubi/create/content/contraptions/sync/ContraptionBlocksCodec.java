@@ -0,0 +1,201 @@
+package com.simibubi.create.content.contraptions.sync;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+
+import io.netty.buffer.Unpooled;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.NbtUtils;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.levelgen.structure.templatesystem.StructureTemplate.StructureBlockInfo;
+
+/**
+ * Compact wire format for the block section of a contraption spawn packet.
+ * <br>
+ * Block states are written as a palette of global state ids, positions as
+ * zigzag varint deltas over a column-major ordering, and block entity tags are
+ * deduplicated. The result is deflated; its hash identifies the payload in the
+ * client side {@link ContraptionSyncCache}.
+ */
+public class ContraptionBlocksCodec {
+
+	private static final Comparator<StructureBlockInfo> ORDER = Comparator
+		.<StructureBlockInfo>comparingInt(info -> info.pos.getX())
+		.thenComparingInt(info -> info.pos.getZ())
+		.thenComparingInt(info -> info.pos.getY());
+
+	public static byte[] encode(Collection<StructureBlockInfo> blocks) {
+		List<StructureBlockInfo> sorted = new ArrayList<>(blocks);
+		sorted.sort(ORDER);
+
+		Object2IntMap<BlockState> palette = new Object2IntOpenHashMap<>();
+		List<BlockState> paletteList = new ArrayList<>();
+		Object2IntMap<CompoundTag> tags = new Object2IntOpenHashMap<>();
+		List<CompoundTag> tagList = new ArrayList<>();
+		for (StructureBlockInfo info : sorted) {
+			if (!palette.containsKey(info.state)) {
+				palette.put(info.state, paletteList.size());
+				paletteList.add(info.state);
+			}
+			if (info.nbt != null && !tags.containsKey(info.nbt)) {
+				tags.put(info.nbt, tagList.size());
+				tagList.add(info.nbt);
+			}
+		}
+
+		FriendlyByteBuf buffer = new FriendlyByteBuf(Unpooled.buffer());
+		try {
+			buffer.writeVarInt(paletteList.size());
+			for (BlockState state : paletteList)
+				buffer.writeVarInt(Block.getId(state));
+
+			buffer.writeVarInt(tagList.size());
+			for (CompoundTag tag : tagList)
+				buffer.writeNbt(tag);
+
+			buffer.writeVarInt(sorted.size());
+			int x = 0, y = 0, z = 0;
+			for (StructureBlockInfo info : sorted) {
+				BlockPos pos = info.pos;
+				writeZigZag(buffer, pos.getX() - x);
+				writeZigZag(buffer, pos.getY() - y);
+				writeZigZag(buffer, pos.getZ() - z);
+				x = pos.getX();
+				y = pos.getY();
+				z = pos.getZ();
+				buffer.writeVarInt(palette.getInt(info.state));
+				buffer.writeVarInt(info.nbt == null ? 0 : tags.getInt(info.nbt) + 1);
+			}
+
+			byte[] raw = new byte[buffer.readableBytes()];
+			buffer.readBytes(raw);
+			return deflate(raw);
+		} finally {
+			buffer.release();
+		}
+	}
+
+	/**
+	 * Decodes a payload back into the paletted "Blocks" compound read by
+	 * {@code Contraption.readNBT}.
+	 */
+	public static CompoundTag decode(byte[] payload) {
+		FriendlyByteBuf buffer = new FriendlyByteBuf(Unpooled.wrappedBuffer(inflate(payload)));
+
+		ListTag paletteNBT = new ListTag();
+		int paletteSize = buffer.readVarInt();
+		for (int i = 0; i < paletteSize; i++)
+			paletteNBT.add(NbtUtils.writeBlockState(Block.stateById(buffer.readVarInt())));
+
+		int tagCount = buffer.readVarInt();
+		CompoundTag[] tags = new CompoundTag[tagCount];
+		boolean[] used = new boolean[tagCount];
+		for (int i = 0; i < tagCount; i++)
+			tags[i] = buffer.readAnySizeNbt();
+
+		ListTag blockList = new ListTag();
+		int count = buffer.readVarInt();
+		int x = 0, y = 0, z = 0;
+		for (int i = 0; i < count; i++) {
+			x += readZigZag(buffer);
+			y += readZigZag(buffer);
+			z += readZigZag(buffer);
+			CompoundTag c = new CompoundTag();
+			c.putLong("Pos", BlockPos.asLong(x, y, z));
+			c.putInt("State", buffer.readVarInt());
+			int tagIndex = buffer.readVarInt() - 1;
+			if (tagIndex >= 0) {
+				// Tags are mutated per block when block entities are created, so shared ones are copied
+				c.put("Data", used[tagIndex] ? tags[tagIndex].copy() : tags[tagIndex]);
+				used[tagIndex] = true;
+			}
+			blockList.add(c);
+		}
+
+		CompoundTag compound = new CompoundTag();
+		compound.put("Palette", paletteNBT);
+		compound.put("BlockList", blockList);
+		return compound;
+	}
+
+	public static HashCode hash(byte[] payload) {
+		return Hashing.murmur3_128()
+			.hashBytes(payload);
+	}
+
+	/**
+	 * Encodes the blocks and hashes the result.
+	 */
+	public static Encoded encodeAndHash(Collection<StructureBlockInfo> blocks) {
+		byte[] payload = encode(blocks);
+		return new Encoded(payload, hash(payload));
+	}
+
+	private static void writeZigZag(FriendlyByteBuf buffer, int value) {
+		buffer.writeVarInt((value << 1) ^ (value >> 31));
+	}
+
+	private static int readZigZag(FriendlyByteBuf buffer) {
+		int value = buffer.readVarInt();
+		return (value >>> 1) ^ -(value & 1);
+	}
+
+	private static byte[] deflate(byte[] raw) {
+		Deflater deflater = new Deflater();
+		try {
+			deflater.setInput(raw);
+			deflater.finish();
+			ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 4 + 16);
+			byte[] chunk = new byte[8192];
+			while (!deflater.finished())
+				out.write(chunk, 0, deflater.deflate(chunk));
+			return out.toByteArray();
+		} finally {
+			deflater.end();
+		}
+	}
+
+	private static byte[] inflate(byte[] payload) {
+		Inflater inflater = new Inflater();
+		try {
+			inflater.setInput(payload);
+			ByteArrayOutputStream out = new ByteArrayOutputStream(payload.length * 4);
+			byte[] chunk = new byte[8192];
+			while (!inflater.finished()) {
+				int read = inflater.inflate(chunk);
+				if (read == 0 && (inflater.needsInput() || inflater.needsDictionary()))
+					throw new IllegalStateException("Truncated contraption block payload");
+				out.write(chunk, 0, read);
+			}
+			return out.toByteArray();
+		} catch (DataFormatException e) {
+			throw new IllegalStateException("Malformed contraption block payload", e);
+		} finally {
+			inflater.end();
+		}
+	}
+
+	/**
+	 * An encoded block section, kept by its contraption until the blocks change.
+	 */
+	public record Encoded(byte[] payload, HashCode hash) {
+	}
+
+}
@@ -0,0 +1,56 @@
+package com.simibubi.create.content.contraptions.sync;
+
+import com.simibubi.create.content.contraptions.AbstractContraptionEntity;
+import com.simibubi.create.foundation.networking.SimplePacketBase;
+
+import io.netty.buffer.Unpooled;
+import net.minecraft.client.Minecraft;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.entity.Entity;
+
+/**
+ * Full spawn data of a contraption, answering a
+ * {@link ContraptionSpawnDataRequestPacket}.
+ */
+public class ContraptionSpawnDataPacket extends SimplePacketBase {
+
+	private int entityID;
+	private byte[] data;
+
+	public ContraptionSpawnDataPacket(AbstractContraptionEntity entity, ServerPlayer player) {
+		entityID = entity.getId();
+		// Serialised right away, so the player's cache mirror is updated in sending order
+		FriendlyByteBuf buffer = new FriendlyByteBuf(Unpooled.buffer());
+		entity.writeSpawnData(buffer, player, true);
+		data = new byte[buffer.readableBytes()];
+		buffer.readBytes(data);
+		buffer.release();
+	}
+
+	public ContraptionSpawnDataPacket(FriendlyByteBuf buffer) {
+		entityID = buffer.readVarInt();
+		data = buffer.readByteArray();
+	}
+
+	@Override
+	public void write(FriendlyByteBuf buffer) {
+		buffer.writeVarInt(entityID);
+		buffer.writeByteArray(data);
+	}
+
+	@Override
+	public boolean handle(Context context) {
+		context.enqueueWork(() -> {
+			Entity entity = Minecraft.getInstance().level.getEntity(entityID);
+			FriendlyByteBuf buffer = new FriendlyByteBuf(Unpooled.wrappedBuffer(data));
+			if (entity instanceof AbstractContraptionEntity contraptionEntity)
+				contraptionEntity.readSpawnData(buffer);
+			else
+				// Still read the block section, the server counts it as cached
+				AbstractContraptionEntity.skipSpawnData(buffer);
+		});
+		return true;
+	}
+
+}
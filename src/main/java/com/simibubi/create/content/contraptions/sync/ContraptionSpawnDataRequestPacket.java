@@ -0,0 +1,56 @@
+package com.simibubi.create.content.contraptions.sync;
+
+import com.simibubi.create.AllPackets;
+import com.simibubi.create.content.contraptions.AbstractContraptionEntity;
+import com.simibubi.create.foundation.networking.SimplePacketBase;
+
+import net.fabricmc.fabric.api.networking.v1.PlayerLookup;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.entity.Entity;
+
+/**
+ * Sent by a client that received a contraption spawn packet referring to block
+ * data it no longer has cached. Ignored unless the sender tracks the entity,
+ * and at most once a second per entity.
+ */
+public class ContraptionSpawnDataRequestPacket extends SimplePacketBase {
+
+	private int entityID;
+
+	public ContraptionSpawnDataRequestPacket(int entityID) {
+		this.entityID = entityID;
+	}
+
+	public ContraptionSpawnDataRequestPacket(FriendlyByteBuf buffer) {
+		entityID = buffer.readVarInt();
+	}
+
+	@Override
+	public void write(FriendlyByteBuf buffer) {
+		buffer.writeVarInt(entityID);
+	}
+
+	@Override
+	public boolean handle(Context context) {
+		context.enqueueWork(() -> {
+			ServerPlayer player = context.getSender();
+			if (player == null)
+				return;
+			Entity entity = player.level.getEntity(entityID);
+			if (!(entity instanceof AbstractContraptionEntity contraptionEntity))
+				return;
+			// Only players the entity was sent to may ask for it, and not repeatedly
+			if (!PlayerLookup.tracking(entity)
+				.contains(player))
+				return;
+			if (!ContraptionSyncCache.mirrorOf(player)
+				.tryResend(entityID, player.level.getGameTime()))
+				return;
+			AllPackets.getChannel()
+				.sendToClient(new ContraptionSpawnDataPacket(contraptionEntity, player), player);
+		});
+		return true;
+	}
+
+}
@@ -0,0 +1,183 @@
+package com.simibubi.create.content.contraptions.sync;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import javax.annotation.Nullable;
+
+import com.google.common.hash.HashCode;
+
+import it.unimi.dsi.fastutil.ints.Int2LongMap;
+import it.unimi.dsi.fastutil.ints.Int2LongOpenHashMap;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.server.level.ServerPlayer;
+
+/**
+ * LRU of contraption block payloads by content hash. The client keeps the
+ * payloads themselves, the server keeps a mirror of each player's cache holding
+ * only the sizes. Both sides apply the same insertions and evictions in packet
+ * order, so the server can send just the hash of a payload the client still
+ * holds. Should the two ever disagree, the client asks for the full data again.
+ */
+public class ContraptionSyncCache {
+
+	private static final byte FULL = 0;
+	private static final byte FULL_CACHED = 1;
+	private static final byte HASH_ONLY = 2;
+
+	public static final int MAX_ENTRIES = 64;
+	public static final long MAX_BYTES = 32 * 1024 * 1024;
+	public static final int RESEND_COOLDOWN_TICKS = 20;
+
+	private static final Map<UUID, ContraptionSyncCache> SERVER_MIRRORS = new HashMap<>();
+	private static final ContraptionSyncCache CLIENT = new ContraptionSyncCache();
+	private static final ThreadLocal<ServerPlayer> PAIRING_PLAYER = new ThreadLocal<>();
+
+	private final LinkedHashMap<HashCode, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+	private long bytes;
+	// Server mirrors only, when each entity's blocks were last resent on request
+	private final Int2LongMap resends = new Int2LongOpenHashMap();
+
+	public static synchronized ContraptionSyncCache mirrorOf(ServerPlayer player) {
+		return SERVER_MIRRORS.computeIfAbsent(player.getUUID(), $ -> new ContraptionSyncCache());
+	}
+
+	public static synchronized void playerLogout(ServerPlayer player) {
+		SERVER_MIRRORS.remove(player.getUUID());
+	}
+
+	public static synchronized void serverStopping() {
+		SERVER_MIRRORS.clear();
+	}
+
+	public static ContraptionSyncCache client() {
+		return CLIENT;
+	}
+
+	/**
+	 * Set while the server writes the pairing packets of an entity for a player,
+	 * so that spawn data can be tailored to that player's cache.
+	 */
+	public static void setPairingPlayer(@Nullable ServerPlayer player) {
+		if (player == null)
+			PAIRING_PLAYER.remove();
+		else
+			PAIRING_PLAYER.set(player);
+	}
+
+	@Nullable
+	public static ServerPlayer getPairingPlayer() {
+		return PAIRING_PLAYER.get();
+	}
+
+	/**
+	 * Writes the block section of a contraption, as only a hash if the receiving
+	 * player is known to hold it already and a full resend was not requested.
+	 */
+	public static void writeBlocks(FriendlyByteBuf buffer, ContraptionBlocksCodec.Encoded blocks,
+		@Nullable ServerPlayer player, boolean forceFull) {
+		byte[] payload = blocks.payload();
+		HashCode hash = blocks.hash();
+		buffer.writeByteArray(hash.asBytes());
+
+		if (player == null) {
+			buffer.writeByte(FULL);
+			buffer.writeByteArray(payload);
+			return;
+		}
+
+		ContraptionSyncCache mirror = mirrorOf(player);
+		if (mirror.touch(hash) && !forceFull) {
+			buffer.writeByte(HASH_ONLY);
+			return;
+		}
+
+		buffer.writeByte(FULL_CACHED);
+		buffer.writeByteArray(payload);
+		mirror.put(hash, payload.length, null);
+	}
+
+	/**
+	 * Reads a block section written by {@link #writeBlocks} on the client.
+	 *
+	 * @return the "Blocks" compound of the contraption, or null if only a hash was
+	 *         sent and it is no longer cached
+	 */
+	@Nullable
+	public static CompoundTag readBlocks(FriendlyByteBuf buffer) {
+		HashCode hash = HashCode.fromBytes(buffer.readByteArray());
+		byte mode = buffer.readByte();
+
+		byte[] payload;
+		if (mode == HASH_ONLY) {
+			payload = CLIENT.get(hash);
+			if (payload == null)
+				return null;
+		} else {
+			payload = buffer.readByteArray();
+			if (mode == FULL_CACHED)
+				CLIENT.put(hash, payload.length, payload);
+		}
+
+		return ContraptionBlocksCodec.decode(payload);
+	}
+
+	/**
+	 * Marks the payload as recently used.
+	 *
+	 * @return whether the payload is cached
+	 */
+	public synchronized boolean touch(HashCode hash) {
+		return entries.get(hash) != null;
+	}
+
+	@Nullable
+	public synchronized byte[] get(HashCode hash) {
+		Entry entry = entries.get(hash);
+		return entry == null ? null : entry.payload;
+	}
+
+	public synchronized void put(HashCode hash, int size, @Nullable byte[] payload) {
+		Entry previous = entries.put(hash, new Entry(size, payload));
+		if (previous != null)
+			bytes -= previous.size;
+		bytes += size;
+
+		for (Iterator<Entry> iterator = entries.values()
+			.iterator(); iterator.hasNext();) {
+			if (entries.size() <= MAX_ENTRIES && bytes <= MAX_BYTES)
+				break;
+			bytes -= iterator.next().size;
+			iterator.remove();
+		}
+	}
+
+	/**
+	 * Limits how often a player may ask for the full blocks of the same entity,
+	 * as each request makes the server write the whole contraption again.
+	 *
+	 * @return whether the blocks may be resent now
+	 */
+	public synchronized boolean tryResend(int entityID, long gameTime) {
+		if (resends.containsKey(entityID) && gameTime - resends.get(entityID) < RESEND_COOLDOWN_TICKS)
+			return false;
+		if (resends.size() >= MAX_ENTRIES)
+			resends.int2LongEntrySet()
+				.removeIf(e -> gameTime - e.getLongValue() >= RESEND_COOLDOWN_TICKS);
+		resends.put(entityID, gameTime);
+		return true;
+	}
+
+	public synchronized void clear() {
+		entries.clear();
+		bytes = 0;
+	}
+
+	private record Entry(int size, @Nullable byte[] payload) {
+	}
+
+}
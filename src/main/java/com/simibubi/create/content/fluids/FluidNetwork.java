@@ -1,12 +1,9 @@
 package com.simibubi.create.content.fluids;
 
-import java.lang.ref.WeakReference;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 import java.util.function.Supplier;
 
@@ -14,7 +11,6 @@ import javax.annotation.Nullable;
 
 import com.simibubi.create.content.contraptions.actors.psi.PortableFluidInterfaceBlockEntity.InterfaceFluidHandler;
 import com.simibubi.create.content.fluids.PipeConnection.Flow;
-import com.simibubi.create.foundation.blockEntity.behaviour.BlockEntityBehaviour;
 import com.simibubi.create.foundation.utility.BlockFace;
 import com.simibubi.create.foundation.utility.Iterate;
 import com.simibubi.create.foundation.utility.Pair;
@@ -45,7 +41,6 @@ public class FluidNetwork {
 	Set<BlockPos> visited;
 	FluidStack fluid;
 	List<Pair<BlockFace, Storage<FluidVariant>>> targets;
-	Map<BlockPos, WeakReference<FluidTransportBehaviour>> cache;
 
 	public FluidNetwork(Level world, BlockFace location, Supplier<Storage<FluidVariant>> sourceSupplier) {
 		this.world = world;
@@ -56,7 +51,6 @@ public class FluidNetwork {
 		this.frontier = new HashSet<>();
 		this.visited = new HashSet<>();
 		this.targets = new ArrayList<>();
-		this.cache = new HashMap<>();
 		this.queued = new ArrayList<>();
 		reset();
 	}
@@ -290,16 +284,8 @@ public class FluidNetwork {
 
 	@Nullable
 	private FluidTransportBehaviour getFluidTransfer(BlockPos pos) {
-		WeakReference<FluidTransportBehaviour> weakReference = cache.get(pos);
-		FluidTransportBehaviour behaviour = weakReference != null ? weakReference.get() : null;
-		if (behaviour != null && behaviour.blockEntity.isRemoved())
-			behaviour = null;
-		if (behaviour == null) {
-			behaviour = BlockEntityBehaviour.get(world, pos, FluidTransportBehaviour.TYPE);
-			if (behaviour != null)
-				cache.put(pos, new WeakReference<>(behaviour));
-		}
-		return behaviour;
+		FluidPipeGraph.Node node = FluidPipeGraph.get(world, pos);
+		return node == null ? null : node.getPipe();
 	}
 
 }
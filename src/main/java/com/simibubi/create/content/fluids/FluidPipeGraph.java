@@ -0,0 +1,93 @@
+package com.simibubi.create.content.fluids;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+import com.simibubi.create.foundation.utility.Iterate;
+import com.simibubi.create.foundation.utility.WorldAttached;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.world.level.LevelAccessor;
+import net.minecraft.world.level.block.state.BlockState;
+
+/**
+ * The pipes of a level and the sides they can connect on. It is kept between
+ * pressure updates, so pumps, networks and pipe changes can walk the pipes
+ * without looking up a block entity and block state at every step.
+ * <br>
+ * A node only depends on the state of its own block. It is rebuilt when that
+ * state or the block entity changes, and dropped when
+ * {@link FluidPropagator#propagateChangedPipe} runs for its position or the
+ * pipe unloads.
+ */
+public class FluidPipeGraph {
+
+	private static final WorldAttached<Map<BlockPos, Node>> NODES = new WorldAttached<>($ -> new HashMap<>());
+
+	@Nullable
+	public static Node get(LevelAccessor level, BlockPos pos) {
+		Map<BlockPos, Node> nodes = NODES.get(level);
+		Node node = nodes.get(pos);
+		if (node != null && node.isValid())
+			return node;
+
+		FluidTransportBehaviour pipe = FluidPropagator.getPipe(level, pos);
+		if (pipe == null) {
+			if (node != null)
+				nodes.remove(pos);
+			return null;
+		}
+
+		node = new Node(pipe, pipe.blockEntity.getBlockState());
+		nodes.put(pos.immutable(), node);
+		return node;
+	}
+
+	public static void invalidate(LevelAccessor level, BlockPos pos) {
+		NODES.get(level)
+			.remove(pos);
+	}
+
+	public static class Node {
+
+		private final FluidTransportBehaviour pipe;
+		private final BlockState state;
+		private final List<Direction> connections;
+
+		private Node(FluidTransportBehaviour pipe, BlockState state) {
+			this.pipe = pipe;
+			this.state = state;
+			this.connections = new ArrayList<>(6);
+			for (Direction d : Iterate.directions)
+				if (pipe.canHaveFlowToward(state, d))
+					connections.add(d);
+		}
+
+		private boolean isValid() {
+			return !pipe.blockEntity.isRemoved() && pipe.blockEntity.getBlockState() == state;
+		}
+
+		public FluidTransportBehaviour getPipe() {
+			return pipe;
+		}
+
+		public BlockState getState() {
+			return state;
+		}
+
+		public List<Direction> getConnections() {
+			return connections;
+		}
+
+		public boolean connectsTo(Direction side) {
+			return connections.contains(side);
+		}
+
+	}
+
+}
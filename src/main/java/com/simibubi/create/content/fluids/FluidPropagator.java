@@ -1,8 +1,10 @@
 package com.simibubi.create.content.fluids;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Queue;
 import java.util.Set;
 
 import javax.annotation.Nullable;
@@ -33,7 +35,6 @@ import net.minecraft.world.level.Level;
 import net.minecraft.world.level.LevelAccessor;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.LiquidBlock;
-import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.block.state.properties.BlockStateProperties;
 
@@ -45,48 +46,56 @@ public class FluidPropagator {
 	}
 
 	public static void propagateChangedPipe(LevelAccessor world, BlockPos pipePos, BlockState pipeState) {
-		List<Pair<Integer, BlockPos>> frontier = new ArrayList<>();
+		Queue<Pair<Integer, BlockPos>> frontier = new ArrayDeque<>();
 		Set<BlockPos> visited = new HashSet<>();
 		Set<Pair<PumpBlockEntity, Direction>> discoveredPumps = new HashSet<>();
 
+		FluidPipeGraph.invalidate(world, pipePos);
 		frontier.add(Pair.of(0, pipePos));
 
 		// Visit all connected pumps to update their network
 		while (!frontier.isEmpty()) {
-			Pair<Integer, BlockPos> pair = frontier.remove(0);
+			Pair<Integer, BlockPos> pair = frontier.poll();
 			BlockPos currentPos = pair.getSecond();
-			if (visited.contains(currentPos))
+			if (!visited.add(currentPos))
 				continue;
-			visited.add(currentPos);
-			BlockState currentState = currentPos.equals(pipePos) ? pipeState : world.getBlockState(currentPos);
-			FluidTransportBehaviour pipe = getPipe(world, currentPos);
+			List<Direction> connections;
+			FluidTransportBehaviour pipe;
+			if (currentPos.equals(pipePos)) {
+				pipe = getPipe(world, currentPos);
+				connections = pipe == null ? List.of() : getPipeConnections(pipeState, pipe);
+			} else {
+				FluidPipeGraph.Node node = FluidPipeGraph.get(world, currentPos);
+				pipe = node == null ? null : node.getPipe();
+				connections = node == null ? List.of() : node.getConnections();
+			}
 			if (pipe == null)
 				continue;
 			pipe.wipePressure();
 
-			for (Direction direction : getPipeConnections(currentState, pipe)) {
+			for (Direction direction : connections) {
 				BlockPos target = currentPos.relative(direction);
 				if (world instanceof Level l && !l.isLoaded(target))
 					continue;
 
-				BlockEntity blockEntity = world.getBlockEntity(target);
-				BlockState targetState = world.getBlockState(target);
-				if (blockEntity instanceof PumpBlockEntity) {
+				FluidPipeGraph.Node targetNode = FluidPipeGraph.get(world, target);
+				if (targetNode == null)
+					continue;
+				BlockState targetState = targetNode.getState();
+				if (targetNode.getPipe().blockEntity instanceof PumpBlockEntity pump) {
 					if (!AllBlocks.MECHANICAL_PUMP.has(targetState) || targetState.getValue(PumpBlock.FACING)
 						.getAxis() != direction.getAxis())
 						continue;
-					discoveredPumps.add(Pair.of((PumpBlockEntity) blockEntity, direction.getOpposite()));
+					discoveredPumps.add(Pair.of(pump, direction.getOpposite()));
 					continue;
 				}
 				if (visited.contains(target))
 					continue;
-				FluidTransportBehaviour targetPipe = getPipe(world, target);
-				if (targetPipe == null)
-					continue;
 				Integer distance = pair.getFirst();
-				if (distance >= getPumpRange() && !targetPipe.hasAnyPressure())
+				if (distance >= getPumpRange() && !targetNode.getPipe()
+					.hasAnyPressure())
 					continue;
-				if (targetPipe.canHaveFlowToward(targetState, direction.getOpposite()))
+				if (targetNode.connectsTo(direction.getOpposite()))
 					frontier.add(Pair.of(distance + 1, target));
 			}
 		}
@@ -96,18 +105,18 @@ public class FluidPropagator {
 	}
 
 	public static void resetAffectedFluidNetworks(Level world, BlockPos start, Direction side) {
-		List<BlockPos> frontier = new ArrayList<>();
+		Queue<BlockPos> frontier = new ArrayDeque<>();
 		Set<BlockPos> visited = new HashSet<>();
 		frontier.add(start);
 
 		while (!frontier.isEmpty()) {
-			BlockPos pos = frontier.remove(0);
-			if (visited.contains(pos))
+			BlockPos pos = frontier.poll();
+			if (!visited.add(pos))
 				continue;
-			visited.add(pos);
-			FluidTransportBehaviour pipe = getPipe(world, pos);
-			if (pipe == null)
+			FluidPipeGraph.Node node = FluidPipeGraph.get(world, pos);
+			if (node == null)
 				continue;
+			FluidTransportBehaviour pipe = node.getPipe();
 
 			for (Direction d : Iterate.directions) {
 				if (pos.equals(start) && d != side)
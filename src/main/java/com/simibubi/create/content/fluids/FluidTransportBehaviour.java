@@ -12,6 +12,7 @@ import com.simibubi.create.AllBlocks;
 import com.simibubi.create.content.fluids.pipes.EncasedPipeBlock;
 import com.simibubi.create.content.fluids.pump.PumpBlock;
 import com.simibubi.create.foundation.blockEntity.SmartBlockEntity;
+import com.simibubi.create.foundation.blockEntity.WakeConditions;
 import com.simibubi.create.foundation.blockEntity.behaviour.BehaviourType;
 import com.simibubi.create.foundation.blockEntity.behaviour.BlockEntityBehaviour;
 import com.simibubi.create.foundation.utility.Iterate;
@@ -29,6 +30,7 @@ import net.minecraft.world.level.block.state.BlockState;
 public abstract class FluidTransportBehaviour extends BlockEntityBehaviour {
 
 	public static final BehaviourType<FluidTransportBehaviour> TYPE = new BehaviourType<>();
+	public static final int STEADY_RECHECK_INTERVAL = 100;
 
 	public enum UpdatePhase {
 		WAIT_FOR_PUMPS, // Do not run Layer II logic while pumps could still be distributing pressure
@@ -56,6 +58,12 @@ public abstract class FluidTransportBehaviour extends BlockEntityBehaviour {
 		createConnectionData();
 	}
 
+	@Override
+	public void unload() {
+		super.unload();
+		FluidPipeGraph.invalidate(getWorld(), getPos());
+	}
+
 	@Override
 	public void tick() {
 		super.tick();
@@ -82,6 +90,7 @@ public abstract class FluidTransportBehaviour extends BlockEntityBehaviour {
 			return;
 		}
 
+		boolean flowsChanged = false;
 		if (onServer) {
 			boolean sendUpdate = false;
 			for (PipeConnection connection : connections) {
@@ -90,10 +99,13 @@ public abstract class FluidTransportBehaviour extends BlockEntityBehaviour {
 			}
 			if (sendUpdate)
 				blockEntity.notifyUpdate();
+			flowsChanged = sendUpdate;
 		}
 
 		if (phase == UpdatePhase.FLIP_FLOWS) {
 			phase = UpdatePhase.IDLE;
+			if (flowsChanged)
+				wakeConnectedPipes();
 			return;
 		}
 
@@ -121,6 +133,7 @@ public abstract class FluidTransportBehaviour extends BlockEntityBehaviour {
 
 			if (!collidingFlow.isEmpty()) {
 				FluidReactions.handlePipeFlowCollision(world, pos, availableFlow, collidingFlow);
+				wakeConnectedPipes();
 				return;
 			}
 
@@ -134,10 +147,54 @@ public abstract class FluidTransportBehaviour extends BlockEntityBehaviour {
 
 			if (sendUpdate)
 				blockEntity.notifyUpdate();
+			flowsChanged |= sendUpdate;
 		}
 
 		for (PipeConnection connection : connections)
-			connection.tickFlowProgress(world, pos);
+			flowsChanged |= connection.tickFlowProgress(world, pos);
+
+		if (world.isClientSide)
+			return;
+		if (flowsChanged) {
+			wakeConnectedPipes();
+			return;
+		}
+		if (canSleepWhenSteady() && isSteady())
+			blockEntity.trySleep(new WakeConditions().after(STEADY_RECHECK_INTERVAL));
+	}
+
+	/**
+	 * Whether the block entity may stop ticking while the flows through it are
+	 * steady. Only pipes that do nothing but carry fluid should opt in.
+	 */
+	protected boolean canSleepWhenSteady() {
+		return false;
+	}
+
+	private boolean isSteady() {
+		if (phase != UpdatePhase.IDLE)
+			return false;
+		for (PipeConnection connection : interfaces.values())
+			if (!connection.isSteady())
+				return false;
+		return true;
+	}
+
+	/**
+	 * Steady pipes only look at their neighbours' flows when ticked, so they
+	 * have to be woken whenever the flows of this pipe change.
+	 */
+	private void wakeConnectedPipes() {
+		Level world = getWorld();
+		BlockPos pos = getPos();
+		for (Direction side : interfaces.keySet()) {
+			BlockPos target = pos.relative(side);
+			if (!world.isLoaded(target))
+				continue;
+			FluidPipeGraph.Node node = FluidPipeGraph.get(world, target);
+			if (node != null)
+				node.getPipe().blockEntity.wake();
+		}
 	}
 
 	@Override
@@ -207,6 +264,7 @@ public abstract class FluidTransportBehaviour extends BlockEntityBehaviour {
 			return;
 		interfaces.get(side)
 			.addPressure(inbound, pressure);
+		blockEntity.wake();
 		blockEntity.sendData();
 	}
 
@@ -222,6 +280,7 @@ public abstract class FluidTransportBehaviour extends BlockEntityBehaviour {
 		createConnectionData();
 		interfaces.values()
 			.forEach(PipeConnection::wipePressure);
+		blockEntity.wake();
 		blockEntity.sendData();
 	}
 
@@ -10,6 +10,8 @@ import com.simibubi.create.foundation.utility.Couple;
 import com.simibubi.create.foundation.utility.Iterate;
 import com.simibubi.create.foundation.utility.VecHelper;
 import com.simibubi.create.foundation.utility.animation.LerpedFloat;
+import com.simibubi.create.infrastructure.profiler.SubsystemProfiler;
+import com.simibubi.create.infrastructure.profiler.SubsystemProfiler.Subsystem;
 import io.github.fabricators_of_create.porting_lib.util.FluidStack;
 import com.tterrag.registrate.fabric.EnvExecutor;
 
@@ -145,8 +147,10 @@ public class PipeConnection {
 		network = retainedNetwork;
 		if (!hasNetwork())
 			network = Optional.of(new FluidNetwork(world, new BlockFace(pos, side), flowSource::provideHandler));
+		long profilerStart = SubsystemProfiler.start(world);
 		network.get()
 			.tick();
+		SubsystemProfiler.end(profilerStart, Subsystem.FLUID_NETWORKS, world, pos);
 
 		return false;
 	}
@@ -185,12 +189,15 @@ public class PipeConnection {
 		return true;
 	}
 
-	public void tickFlowProgress(Level world, BlockPos pos) {
+	/**
+	 * @return whether the flow reached the end of the pipe during this tick
+	 */
+	public boolean tickFlowProgress(Level world, BlockPos pos) {
 		if (!hasFlow())
-			return;
+			return false;
 		Flow flow = this.flow.get();
 		if (flow.fluid.isEmpty() || flow.fluid.getFluid().isSame(Fluids.EMPTY))
-			return;
+			return false;
 
 		if (world.isClientSide) {
 			if (!source.isPresent())
@@ -204,8 +211,24 @@ public class PipeConnection {
 
 		float flowSpeed = (1 / 32f + Mth.clamp(pressure.get(flow.inbound) / 128f, 0, 1) * 31 / 32f);
 		flow.progress.setValue(Math.min(flow.progress.getValue() + flowSpeed, 1));
-		if (flow.progress.getValue() >= 1)
-			flow.complete = true;
+		if (flow.complete || flow.progress.getValue() < 1)
+			return false;
+		flow.complete = true;
+		return true;
+	}
+
+	/**
+	 * A connection is steady once its flow is complete and nothing but the
+	 * neighbouring pipe can feed it. It will stay as it is until its pressure or
+	 * the flow of that pipe changes.
+	 */
+	public boolean isSteady() {
+		if (hasNetwork())
+			return false;
+		if (hasFlow() && !flow.get().complete)
+			return false;
+		return source.isPresent() && !source.get()
+			.isEndpoint();
 	}
 
 	public void serializeNBT(CompoundTag tag, boolean clientPacket) {
@@ -57,6 +57,11 @@ public class FluidPipeBlockEntity extends SmartBlockEntity implements ITransform
 			super(be);
 		}
 
+		@Override
+		protected boolean canSleepWhenSteady() {
+			return true;
+		}
+
 		@Override
 		public boolean canHaveFlowToward(BlockState state, Direction direction) {
 			return (FluidPipeBlock.isPipe(state) || state.getBlock() instanceof EncasedPipeBlock)
@@ -44,6 +44,12 @@ public class StraightPipeBlockEntity extends SmartBlockEntity implements PipeAtt
 			super(be);
 		}
 
+		@Override
+		protected boolean canSleepWhenSteady() {
+			// Valves and smart pipes reuse this behaviour, but have more to tick
+			return blockEntity instanceof StraightPipeBlockEntity;
+		}
+
 		@Override
 		public boolean canHaveFlowToward(BlockState state, Direction direction) {
 			return state.hasProperty(AxisPipeBlock.AXIS) && state.getValue(AxisPipeBlock.AXIS) == direction.getAxis();
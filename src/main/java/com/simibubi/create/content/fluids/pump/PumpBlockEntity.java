@@ -1,18 +1,20 @@
 package com.simibubi.create.content.fluids.pump;
 
-import java.util.ArrayList;
+import java.util.ArrayDeque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Queue;
 import java.util.Set;
 
 import javax.annotation.Nullable;
 
 import org.apache.commons.lang3.mutable.MutableBoolean;
 
+import com.simibubi.create.content.fluids.FluidPipeGraph;
 import com.simibubi.create.content.fluids.FluidPropagator;
 import com.simibubi.create.content.fluids.FluidTransportBehaviour;
 import com.simibubi.create.content.fluids.PipeAttachmentBlockEntity;
@@ -134,27 +136,25 @@ public class PumpBlockEntity extends KineticBlockEntity implements PipeAttachmen
 				.getSecond()
 				.put(side.getOpposite(), !pull);
 
-			List<Pair<Integer, BlockPos>> frontier = new ArrayList<>();
+			Queue<Pair<Integer, BlockPos>> frontier = new ArrayDeque<>();
 			Set<BlockPos> visited = new HashSet<>();
 			int maxDistance = FluidPropagator.getPumpRange();
 			frontier.add(Pair.of(1, start.getConnectedPos()));
 
 			while (!frontier.isEmpty()) {
-				Pair<Integer, BlockPos> entry = frontier.remove(0);
+				Pair<Integer, BlockPos> entry = frontier.poll();
 				int distance = entry.getFirst();
 				BlockPos currentPos = entry.getSecond();
 
 				if (!level.isLoaded(currentPos))
 					continue;
-				if (visited.contains(currentPos))
+				if (!visited.add(currentPos))
 					continue;
-				visited.add(currentPos);
-				BlockState currentState = level.getBlockState(currentPos);
-				FluidTransportBehaviour pipe = FluidPropagator.getPipe(level, currentPos);
+				FluidPipeGraph.Node pipe = FluidPipeGraph.get(level, currentPos);
 				if (pipe == null)
 					continue;
 
-				for (Direction face : FluidPropagator.getPipeConnections(currentState, pipe)) {
+				for (Direction face : pipe.getConnections()) {
 					BlockFace blockFace = new BlockFace(currentPos, face);
 					BlockPos connectedPos = blockFace.getConnectedPos();
 
@@ -170,10 +170,10 @@ public class PumpBlockEntity extends KineticBlockEntity implements PipeAttachmen
 						continue;
 					}
 
-					FluidTransportBehaviour pipeBehaviour = FluidPropagator.getPipe(level, connectedPos);
-					if (pipeBehaviour == null)
+					FluidPipeGraph.Node connected = FluidPipeGraph.get(level, connectedPos);
+					if (connected == null)
 						continue;
-					if (pipeBehaviour instanceof PumpFluidTransferBehaviour)
+					if (connected.getPipe() instanceof PumpFluidTransferBehaviour)
 						continue;
 					if (visited.contains(connectedPos))
 						continue;
@@ -11,6 +11,7 @@ import com.simibubi.create.api.connectivity.ConnectivityHandler;
 import com.simibubi.create.content.equipment.goggles.IHaveGoggleInformation;
 import com.simibubi.create.content.fluids.tank.FluidTankBlock.Shape;
 import com.simibubi.create.foundation.advancement.AllAdvancements;
+import com.simibubi.create.foundation.blockEntity.ComparatorUtil;
 import com.simibubi.create.foundation.blockEntity.IMultiBlockEntityContainer;
 import com.simibubi.create.foundation.blockEntity.SmartBlockEntity;
 import com.simibubi.create.foundation.blockEntity.behaviour.BlockEntityBehaviour;
@@ -53,6 +54,7 @@ public class FluidTankBlockEntity extends SmartBlockEntity implements IHaveGoggl
 	protected boolean updateCapability;
 	protected boolean window;
 	protected int luminosity;
+	protected int lastComparatorOutput = -1;
 	protected int width;
 	protected int height;
 
@@ -152,6 +154,9 @@ public class FluidTankBlockEntity extends SmartBlockEntity implements IHaveGoggl
 		int luminosity = (int) (handler.getLuminance(variant) / 1.2f);
 		boolean reversed = handler.isLighterThanAir(variant);
 		int maxY = (int) ((getFillState() * height) + 1);
+		int comparatorOutput = ComparatorUtil.fractionToRedstoneLevel(getFillState());
+		boolean comparatorChanged = comparatorOutput != lastComparatorOutput;
+		lastComparatorOutput = comparatorOutput;
 
 		for (int yOffset = 0; yOffset < height; yOffset++) {
 			boolean isBright = reversed ? (height - yOffset <= maxY) : (yOffset < maxY);
@@ -163,8 +168,9 @@ public class FluidTankBlockEntity extends SmartBlockEntity implements IHaveGoggl
 					FluidTankBlockEntity tankAt = ConnectivityHandler.partAt(getType(), level, pos);
 					if (tankAt == null)
 						continue;
-					level.updateNeighbourForOutputSignal(pos, tankAt.getBlockState()
-						.getBlock());
+					if (comparatorChanged)
+						level.updateNeighbourForOutputSignal(pos, tankAt.getBlockState()
+							.getBlock());
 					if (tankAt.luminosity == actualLuminosity)
 						continue;
 					tankAt.setLuminosity(actualLuminosity);
@@ -18,6 +18,8 @@ import com.simibubi.create.content.kinetics.speedController.SpeedControllerBlock
 import com.simibubi.create.content.kinetics.transmission.SplitShaftBlockEntity;
 import com.simibubi.create.foundation.utility.Iterate;
 import com.simibubi.create.infrastructure.config.AllConfigs;
+import com.simibubi.create.infrastructure.profiler.SubsystemProfiler;
+import com.simibubi.create.infrastructure.profiler.SubsystemProfiler.Subsystem;
 
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
@@ -210,7 +212,9 @@ public class RotationPropagator {
 			return;
 		if (!worldIn.isLoaded(pos))
 			return;
+		long profilerStart = SubsystemProfiler.start(worldIn);
 		propagateNewSource(addedTE);
+		SubsystemProfiler.end(profilerStart, Subsystem.KINETIC_PROPAGATION, worldIn, pos);
 	}
 
 	/**
@@ -316,6 +320,7 @@ public class RotationPropagator {
 		if (removedBE.getTheoreticalSpeed() == 0)
 			return;
 
+		long profilerStart = SubsystemProfiler.start(worldIn);
 		for (BlockPos neighbourPos : getPotentialNeighbourLocations(removedBE)) {
 			BlockState neighbourState = worldIn.getBlockState(neighbourPos);
 			if (!(neighbourState.getBlock() instanceof IRotate))
@@ -330,7 +335,7 @@ public class RotationPropagator {
 
 			propagateMissingSource(neighbourBE);
 		}
-
+		SubsystemProfiler.end(profilerStart, Subsystem.KINETIC_PROPAGATION, worldIn, pos);
 	}
 
 	/**
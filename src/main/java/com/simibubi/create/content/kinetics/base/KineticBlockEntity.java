@@ -27,6 +27,8 @@ import com.simibubi.create.foundation.sound.SoundScapes;
 import com.simibubi.create.foundation.sound.SoundScapes.AmbienceGroup;
 import com.simibubi.create.foundation.utility.Lang;
 import com.simibubi.create.infrastructure.config.AllConfigs;
+import com.simibubi.create.infrastructure.profiler.SubsystemProfiler;
+import com.simibubi.create.infrastructure.profiler.SubsystemProfiler.Subsystem;
 
 import io.github.fabricators_of_create.porting_lib.block.CustomRenderBoundingBoxBlockEntity;
 import io.github.fabricators_of_create.porting_lib.util.EnvExecutor;
@@ -114,8 +116,11 @@ public class KineticBlockEntity extends SmartBlockEntity implements IHaveGoggleI
 			flickerTally = getFlickerScore() - 1;
 
 		if (networkDirty) {
-			if (hasNetwork())
+			if (hasNetwork()) {
+				long profilerStart = SubsystemProfiler.start(level);
 				getOrCreateNetwork().updateNetwork();
+				SubsystemProfiler.end(profilerStart, Subsystem.KINETIC_PROPAGATION, level, worldPosition);
+			}
 			networkDirty = false;
 		}
 	}
@@ -34,6 +34,8 @@ import com.simibubi.create.content.logistics.tunnel.BrassTunnelBlockEntity;
 import com.simibubi.create.foundation.blockEntity.behaviour.BlockEntityBehaviour;
 import com.simibubi.create.foundation.blockEntity.behaviour.inventory.VersionedInventoryTrackerBehaviour;
 import com.simibubi.create.foundation.utility.NBTHelper;
+import com.simibubi.create.infrastructure.profiler.SubsystemProfiler;
+import com.simibubi.create.infrastructure.profiler.SubsystemProfiler.Subsystem;
 import com.tterrag.registrate.fabric.EnvExecutor;
 
 import io.github.fabricators_of_create.porting_lib.transfer.item.ItemTransferable;
@@ -94,6 +96,11 @@ public class BeltBlockEntity extends KineticBlockEntity implements ItemTransfera
 		color = Optional.empty();
 	}
 
+	@Override
+	protected boolean usesBatchedSync() {
+		return true;
+	}
+
 	@Override
 	public void addBehaviours(List<BlockEntityBehaviour> behaviours) {
 		super.addBehaviours(behaviours);
@@ -128,7 +135,9 @@ public class BeltBlockEntity extends KineticBlockEntity implements ItemTransfera
 		});
 		invalidateRenderBoundingBox();
 
+		long profilerStart = SubsystemProfiler.start(level);
 		getInventory().tick();
+		SubsystemProfiler.end(profilerStart, Subsystem.BELT_INVENTORIES, level, worldPosition);
 
 		if (getSpeed() == 0)
 			return;
@@ -0,0 +1,107 @@
+package com.simibubi.create.content.kinetics.crafter;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+import org.apache.commons.lang3.tuple.Pair;
+
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.state.BlockState;
+
+/**
+ * The crafters connected into one grid, together with the crafters feeding
+ * into each of them. Shared by all members so the grid is not walked again for
+ * every craft.
+ * <br>
+ * Groups are dropped when a block next to a member changes or a member turns.
+ * Crafters in chunks loading back in do not notify their neighbours, so groups
+ * also expire after {@link #MAX_AGE} ticks.
+ */
+public class CrafterGroup {
+
+	public static final int MAX_AGE = 100;
+
+	private final List<MechanicalCrafterBlockEntity> members;
+	private final BlockState[] states;
+	private final Map<MechanicalCrafterBlockEntity, List<MechanicalCrafterBlockEntity>> preceding;
+	private final long createdAt;
+	private boolean invalidated;
+
+	private CrafterGroup(List<MechanicalCrafterBlockEntity> members,
+		Map<MechanicalCrafterBlockEntity, List<MechanicalCrafterBlockEntity>> preceding, long gameTime) {
+		this.members = members;
+		this.preceding = preceding;
+		this.states = new BlockState[members.size()];
+		this.createdAt = gameTime;
+		for (int i = 0; i < members.size(); i++)
+			states[i] = members.get(i)
+				.getBlockState();
+	}
+
+	/**
+	 * Collects the grid the given crafter is part of.
+	 *
+	 * @return the group, or null if the crafters are connected in a loop
+	 */
+	@Nullable
+	public static CrafterGroup of(MechanicalCrafterBlockEntity root) {
+		List<MechanicalCrafterBlockEntity> members = new ArrayList<>();
+		Map<MechanicalCrafterBlockEntity, List<MechanicalCrafterBlockEntity>> preceding = new IdentityHashMap<>();
+		List<Pair<MechanicalCrafterBlockEntity, MechanicalCrafterBlockEntity>> frontier = new ArrayList<>();
+		Set<MechanicalCrafterBlockEntity> visited = new HashSet<>();
+		frontier.add(Pair.of(root, null));
+
+		while (!frontier.isEmpty()) {
+			Pair<MechanicalCrafterBlockEntity, MechanicalCrafterBlockEntity> pair = frontier.remove(0);
+			MechanicalCrafterBlockEntity current = pair.getKey();
+			MechanicalCrafterBlockEntity last = pair.getValue();
+
+			if (visited.contains(current))
+				return null;
+			members.add(current);
+			visited.add(current);
+
+			MechanicalCrafterBlockEntity target = RecipeGridHandler.getTargetingCrafter(current);
+			if (target != last && target != null)
+				frontier.add(Pair.of(target, current));
+			List<MechanicalCrafterBlockEntity> precedingCrafters = RecipeGridHandler.getPrecedingCrafters(current);
+			preceding.put(current, precedingCrafters);
+			for (MechanicalCrafterBlockEntity crafter : precedingCrafters)
+				if (crafter != last)
+					frontier.add(Pair.of(crafter, current));
+		}
+
+		return new CrafterGroup(members, preceding, root.getLevel()
+			.getGameTime());
+	}
+
+	public boolean isValid(Level level) {
+		if (invalidated || level.getGameTime() - createdAt >= MAX_AGE)
+			return false;
+		for (int i = 0; i < members.size(); i++) {
+			MechanicalCrafterBlockEntity member = members.get(i);
+			if (member.isRemoved() || member.group != this || member.getBlockState() != states[i])
+				return false;
+		}
+		return true;
+	}
+
+	public void invalidate() {
+		invalidated = true;
+	}
+
+	public List<MechanicalCrafterBlockEntity> getMembers() {
+		return members;
+	}
+
+	public List<MechanicalCrafterBlockEntity> getPreceding(MechanicalCrafterBlockEntity member) {
+		return preceding.getOrDefault(member, List.of());
+	}
+
+}
@@ -0,0 +1,69 @@
+package com.simibubi.create.content.kinetics.crafter;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+
+import net.fabricmc.fabric.api.transfer.v1.item.ItemVariant;
+import net.minecraft.world.inventory.CraftingContainer;
+import net.minecraft.world.item.crafting.CraftingRecipe;
+import net.minecraft.world.item.crafting.RecipeManager;
+
+/**
+ * Remembers which recipe, if any, was found for a layout of items in a crafter
+ * grid, so that repeated crafts do not scan every crafting recipe again. Counts
+ * are ignored since crafting only ever consumes one item per slot.
+ * <br>
+ * Entries belong to the recipe manager they were looked up in. Reloading
+ * datapacks replaces the manager, which clears the cache.
+ */
+public class CrafterRecipeCache {
+
+	public static final int CAPACITY = 256;
+
+	private static RecipeManager recipeManager;
+	private static final Map<Key, Optional<CraftingRecipe>> ENTRIES = new LinkedHashMap<>(16, .75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Key, Optional<CraftingRecipe>> eldest) {
+			return size() > CAPACITY;
+		}
+	};
+
+	/**
+	 * @return the cached lookup, or null if this layout has not been looked up
+	 *         yet
+	 */
+	@Nullable
+	public static Optional<CraftingRecipe> get(RecipeManager manager, Key key) {
+		if (manager != recipeManager) {
+			ENTRIES.clear();
+			recipeManager = manager;
+			return null;
+		}
+		return ENTRIES.get(key);
+	}
+
+	public static void put(RecipeManager manager, Key key, Optional<CraftingRecipe> recipe) {
+		if (manager != recipeManager) {
+			ENTRIES.clear();
+			recipeManager = manager;
+		}
+		ENTRIES.put(key, recipe);
+	}
+
+	public record Key(int width, int height, boolean allowRegularCrafting, List<ItemVariant> layout) {
+
+		public static Key of(CraftingContainer inventory, boolean allowRegularCrafting) {
+			List<ItemVariant> layout = new ArrayList<>(inventory.getContainerSize());
+			for (int i = 0; i < inventory.getContainerSize(); i++)
+				layout.add(ItemVariant.of(inventory.getItem(i)));
+			return new Key(inventory.getWidth(), inventory.getHeight(), allowRegularCrafting, layout);
+		}
+
+	}
+
+}
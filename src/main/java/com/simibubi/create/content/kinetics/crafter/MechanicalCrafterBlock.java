@@ -245,6 +245,7 @@ public class MechanicalCrafterBlock extends HorizontalKineticBlock
 		InvManipulationBehaviour behaviour = BlockEntityBehaviour.get(worldIn, pos, InvManipulationBehaviour.TYPE);
 		if (behaviour != null)
 			behaviour.onNeighborChanged(fromPos);
+		withBlockEntityDo(worldIn, pos, MechanicalCrafterBlockEntity::invalidateGroup);
 	}
 
 	@Override
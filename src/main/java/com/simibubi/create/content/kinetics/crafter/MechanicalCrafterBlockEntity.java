@@ -94,6 +94,7 @@ public class MechanicalCrafterBlockEntity extends KineticBlockEntity implements
 	protected boolean wasPoweredBefore;
 
 	protected GroupedItems groupedItemsBeforeCraft; // for rendering on client
+	CrafterGroup group;
 	private InvManipulationBehaviour inserting;
 	private EdgeInteractionBehaviour connectivity;
 
@@ -132,6 +133,11 @@ public class MechanicalCrafterBlockEntity extends KineticBlockEntity implements
 		}
 	}
 
+	public void invalidateGroup() {
+		if (group != null)
+			group.invalidate();
+	}
+
 	public void blockChanged() {
 		removeBehaviour(InvManipulationBehaviour.TYPE);
 		inserting = new InvManipulationBehaviour(this, this::getTargetFace);
@@ -495,8 +501,7 @@ public class MechanicalCrafterBlockEntity extends KineticBlockEntity implements
 		phase = Phase.ACCEPTING;
 		groupedItems = new GroupedItems(inventory.getItem(0));
 		inventory.setStackInSlot(0, ItemStack.EMPTY);
-		if (RecipeGridHandler.getPrecedingCrafters(this)
-			.isEmpty()) {
+		if (getPrecedingCrafters().isEmpty()) {
 			phase = Phase.ASSEMBLING;
 			countDown = 500;
 		}
@@ -504,7 +509,7 @@ public class MechanicalCrafterBlockEntity extends KineticBlockEntity implements
 	}
 
 	protected void continueIfAllPrecedingFinished() {
-		List<MechanicalCrafterBlockEntity> preceding = RecipeGridHandler.getPrecedingCrafters(this);
+		List<MechanicalCrafterBlockEntity> preceding = getPrecedingCrafters();
 		if (preceding == null) {
 			ejectWholeGrid();
 			return;
@@ -518,6 +523,11 @@ public class MechanicalCrafterBlockEntity extends KineticBlockEntity implements
 		countDown = Math.max(100, getCountDownSpeed() + 1);
 	}
 
+	protected List<MechanicalCrafterBlockEntity> getPrecedingCrafters() {
+		CrafterGroup group = RecipeGridHandler.getGroup(this);
+		return group == null ? RecipeGridHandler.getPrecedingCrafters(this) : group.getPreceding(this);
+	}
+
 	@Nullable
 	@Override
 	public Storage<ItemVariant> getItemStorage(@Nullable Direction face) {
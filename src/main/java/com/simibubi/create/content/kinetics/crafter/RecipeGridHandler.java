@@ -4,12 +4,13 @@ import static com.simibubi.create.content.kinetics.base.HorizontalKineticBlock.H
 
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
+import java.util.Optional;
 import java.util.function.Predicate;
 
+import javax.annotation.Nullable;
+
 import org.apache.commons.lang3.tuple.Pair;
 
 import com.google.common.base.Predicates;
@@ -29,6 +30,7 @@ import net.minecraft.world.inventory.CraftingContainer;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.crafting.CraftingRecipe;
 import net.minecraft.world.item.crafting.FireworkRocketRecipe;
+import net.minecraft.world.item.crafting.RecipeManager;
 import net.minecraft.world.item.crafting.RecipeType;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.state.BlockState;
@@ -46,22 +48,15 @@ public class RecipeGridHandler {
 
 	public static List<MechanicalCrafterBlockEntity> getAllCraftersOfChainIf(MechanicalCrafterBlockEntity root,
 		Predicate<MechanicalCrafterBlockEntity> test, boolean poweredStart) {
-		List<MechanicalCrafterBlockEntity> crafters = new ArrayList<>();
-		List<Pair<MechanicalCrafterBlockEntity, MechanicalCrafterBlockEntity>> frontier = new ArrayList<>();
-		Set<MechanicalCrafterBlockEntity> visited = new HashSet<>();
-		frontier.add(Pair.of(root, null));
+		CrafterGroup group = getGroup(root);
+		if (group == null)
+			return null;
 
 		boolean powered = false;
 		boolean empty = false;
 		boolean allEmpty = true;
 
-		while (!frontier.isEmpty()) {
-			Pair<MechanicalCrafterBlockEntity, MechanicalCrafterBlockEntity> pair = frontier.remove(0);
-			MechanicalCrafterBlockEntity current = pair.getKey();
-			MechanicalCrafterBlockEntity last = pair.getValue();
-
-			if (visited.contains(current))
-				return null;
+		for (MechanicalCrafterBlockEntity current : group.getMembers()) {
 			if (!(test.test(current)))
 				empty = true;
 			else
@@ -69,19 +64,22 @@ public class RecipeGridHandler {
 			if (poweredStart && current.getLevel()
 				.hasNeighborSignal(current.getBlockPos()))
 				powered = true;
-
-			crafters.add(current);
-			visited.add(current);
-
-			MechanicalCrafterBlockEntity target = getTargetingCrafter(current);
-			if (target != last && target != null)
-				frontier.add(Pair.of(target, current));
-			for (MechanicalCrafterBlockEntity preceding : getPrecedingCrafters(current))
-				if (preceding != last)
-					frontier.add(Pair.of(preceding, current));
 		}
 
-		return empty && !powered || allEmpty ? null : crafters;
+		return empty && !powered || allEmpty ? null : new ArrayList<>(group.getMembers());
+	}
+
+	@Nullable
+	public static CrafterGroup getGroup(MechanicalCrafterBlockEntity crafter) {
+		CrafterGroup group = crafter.group;
+		if (group != null && group.isValid(crafter.getLevel()))
+			return group;
+		CrafterGroup newGroup = CrafterGroup.of(crafter);
+		crafter.group = newGroup;
+		if (newGroup != null)
+			newGroup.getMembers()
+				.forEach(member -> member.group = newGroup);
+		return newGroup;
 	}
 
 	public static MechanicalCrafterBlockEntity getTargetingCrafter(MechanicalCrafterBlockEntity crafter) {
@@ -144,18 +142,31 @@ public class RecipeGridHandler {
 	public static ItemStack tryToApplyRecipe(Level world, GroupedItems items) {
 		items.calcStats();
 		CraftingContainer craftinginventory = new MechanicalCraftingInventory(items);
-		ItemStack result = null;
-		if (AllConfigs.server().recipes.allowRegularCraftingInCrafter.get())
-			result = world.getRecipeManager()
+		boolean allowRegularCrafting = AllConfigs.server().recipes.allowRegularCraftingInCrafter.get();
+		RecipeManager recipeManager = world.getRecipeManager();
+		CrafterRecipeCache.Key key = CrafterRecipeCache.Key.of(craftinginventory, allowRegularCrafting);
+
+		Optional<CraftingRecipe> recipe = CrafterRecipeCache.get(recipeManager, key);
+		if (recipe == null || recipe.isPresent() && !recipe.get()
+			.matches(craftinginventory, world)) {
+			recipe = findRecipe(world, craftinginventory, allowRegularCrafting);
+			CrafterRecipeCache.put(recipeManager, key, recipe);
+		}
+
+		return recipe.map(r -> r.assemble(craftinginventory))
+			.orElse(null);
+	}
+
+	private static Optional<CraftingRecipe> findRecipe(Level world, CraftingContainer craftinginventory,
+		boolean allowRegularCrafting) {
+		Optional<CraftingRecipe> recipe = Optional.empty();
+		if (allowRegularCrafting)
+			recipe = world.getRecipeManager()
 				.getRecipeFor(RecipeType.CRAFTING, craftinginventory, world)
-				.filter(r -> isRecipeAllowed(r, craftinginventory))
-				.map(r -> r.assemble(craftinginventory))
-				.orElse(null);
-		if (result == null)
-			result = AllRecipeTypes.MECHANICAL_CRAFTING.find(craftinginventory, world)
-				.map(r -> r.assemble(craftinginventory))
-				.orElse(null);
-		return result;
+				.filter(r -> isRecipeAllowed(r, craftinginventory));
+		if (recipe.isEmpty())
+			recipe = AllRecipeTypes.MECHANICAL_CRAFTING.<CraftingContainer, CraftingRecipe>find(craftinginventory, world);
+		return recipe;
 	}
 
 	public static boolean isRecipeAllowed(CraftingRecipe recipe, CraftingContainer inventory) {
@@ -52,9 +52,11 @@ import net.minecraft.sounds.SoundSource;
 import net.minecraft.util.Mth;
 import net.minecraft.world.Container;
 import net.minecraft.world.InteractionHand;
+import net.minecraft.world.InteractionResult;
 import net.minecraft.world.entity.player.Inventory;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.crafting.Recipe;
+import net.minecraft.world.item.crafting.RecipeManager;
 import net.minecraft.world.level.ClipContext;
 import net.minecraft.world.level.ClipContext.Block;
 import net.minecraft.world.level.ClipContext.Fluid;
@@ -81,6 +83,11 @@ public class DeployerBlockEntity extends KineticBlockEntity implements ItemTrans
 	protected UUID owner;
 	private DeployerItemHandler invHandler;
 	private ListTag deferredInventoryList;
+	// The last recipe applied and the last block and item without one, until the recipes reload
+	private RecipeManager applicationRecipes;
+	private ManualApplicationRecipe lastApplication;
+	private BlockState lastMissedState;
+	private ItemStack lastMissedItem = ItemStack.EMPTY;
 
 	private LerpedFloat animatedOffset;
 
@@ -148,7 +155,7 @@ public class DeployerBlockEntity extends KineticBlockEntity implements ItemTrans
 		if (invHandler != null)
 			return;
 		if (level instanceof ServerLevel sLevel) {
-			player = new DeployerFakePlayer(sLevel, owner);
+			player = DeployerPlayerPool.checkOut(sLevel, owner);
 			if (deferredInventoryList != null) {
 				player.getInventory()
 					.load(deferredInventoryList);
@@ -363,6 +370,12 @@ public class DeployerBlockEntity extends KineticBlockEntity implements ItemTrans
 			&& BlockEntityBehaviour.get(level, clickedPos, TransportedItemStackHandlerBehaviour.TYPE) != null)
 			return; // Belt processing handled in BeltDeployerCallbacks
 
+		if (mode == Mode.USE && tryApplyToBlock(clickedPos)) {
+			award(AllAdvancements.DEPLOYER);
+			heldItem = player.getMainHandItem();
+			return;
+		}
+
 		DeployerHandler.activate(player, center, clickedPos, movementVector, mode);
 		award(AllAdvancements.DEPLOYER);
 
@@ -370,6 +383,39 @@ public class DeployerBlockEntity extends KineticBlockEntity implements ItemTrans
 			heldItem = player.getMainHandItem();
 	}
 
+	/**
+	 * Item application recipes only depend on the held item and the block in
+	 * front, so these skip the entity search and ray of a full activation.
+	 */
+	protected boolean tryApplyToBlock(BlockPos clickedPos) {
+		ItemStack held = player.getMainHandItem();
+		if (held.isEmpty())
+			return false;
+		BlockState clickedState = level.getBlockState(clickedPos);
+		if (clickedState.isAir())
+			return false;
+
+		if (applicationRecipes != level.getRecipeManager()) {
+			applicationRecipes = level.getRecipeManager();
+			lastApplication = null;
+			lastMissedState = null;
+		}
+		if (clickedState == lastMissedState && ItemStack.isSameItemSameTags(held, lastMissedItem))
+			return false;
+		if (lastApplication == null || !lastApplication.appliesTo(clickedState, held)) {
+			lastApplication = ManualApplicationRecipe.find(level, clickedState, held)
+				.orElse(null);
+			if (lastApplication == null) {
+				lastMissedState = clickedState;
+				lastMissedItem = held.copy();
+				return false;
+			}
+		}
+
+		return ManualApplicationRecipe.apply(player, level, InteractionHand.MAIN_HAND, clickedPos, clickedState,
+			lastApplication) != InteractionResult.PASS;
+	}
+
 	protected Vec3 getMovementVector() {
 		if (!AllBlocks.DEPLOYER.has(getBlockState()))
 			return Vec3.ZERO;
@@ -418,10 +464,10 @@ public class DeployerBlockEntity extends KineticBlockEntity implements ItemTrans
 				.save(invNBT);
 			compound.put("Inventory", invNBT);
 			compound.put("HeldItem", NBTSerializer.serializeNBT(player.getMainHandItem()));
-			compound.put("Overflow", NBTHelper.writeItemList(overflowItems));
 		} else if (deferredInventoryList != null) {
 			compound.put("Inventory", deferredInventoryList);
 		}
+		compound.put("Overflow", NBTHelper.writeItemList(overflowItems));
 
 		super.write(compound, clientPacket);
 
@@ -475,13 +521,21 @@ public class DeployerBlockEntity extends KineticBlockEntity implements ItemTrans
 		player.getInventory()
 			.dropAll();
 		overflowItems.forEach(itemstack -> player.drop(itemstack, true, false));
-		player.discard();
+		overflowItems.clear();
+		DeployerPlayerPool.release(player);
 		player = null;
 	}
 
 	@Override
 	public void invalidate() {
 		super.invalidate();
+		if (player == null)
+			return;
+		// Keep the inventory around in case this is saved after unloading
+		deferredInventoryList = player.getInventory()
+			.save(new ListTag());
+		DeployerPlayerPool.release(player);
+		player = null;
 	}
 
 	public void changeMode() {
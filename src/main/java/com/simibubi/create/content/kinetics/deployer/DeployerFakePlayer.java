@@ -13,6 +13,7 @@ import io.github.fabricators_of_create.porting_lib.util.UsernameCache;
 import org.apache.commons.lang3.tuple.Pair;
 
 import com.mojang.authlib.GameProfile;
+import com.simibubi.create.foundation.mixin.accessor.ItemCooldownsAccessor;
 import com.simibubi.create.foundation.utility.Lang;
 import com.simibubi.create.infrastructure.config.AllConfigs;
 import com.simibubi.create.infrastructure.config.CKinetics;
@@ -21,6 +22,7 @@ import io.github.fabricators_of_create.porting_lib.fake_players.FakePlayer;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.Registry;
 import net.minecraft.network.Connection;
 import net.minecraft.network.chat.Component;
 import net.minecraft.network.protocol.PacketFlow;
@@ -33,6 +35,8 @@ import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.Mob;
 import net.minecraft.world.entity.Pose;
+import net.minecraft.world.entity.ai.attributes.Attribute;
+import net.minecraft.world.entity.ai.attributes.AttributeInstance;
 import net.minecraft.world.entity.item.ItemEntity;
 import net.minecraft.world.entity.monster.Creeper;
 import net.minecraft.world.entity.player.Player;
@@ -104,6 +108,41 @@ public class DeployerFakePlayer extends FakePlayer {
 		return owner == null ? super.getUUID() : owner;
 	}
 
+	@Nullable
+	public UUID getOwner() {
+		return owner;
+	}
+
+	/**
+	 * Clears what the previous deployer left on this player before it goes back
+	 * into the {@link DeployerPlayerPool}.
+	 */
+	void resetForReuse() {
+		if (blockBreakingProgress != null)
+			level.destroyBlockProgress(getId(), blockBreakingProgress.getKey(), -1);
+		blockBreakingProgress = null;
+		spawnedItemEffects = null;
+		placedTracks = false;
+		onMinecartContraption = false;
+		stopUsingItem();
+		getInventory().clearContent();
+
+		// Deployers leave the modifiers of their held item applied
+		for (Attribute attribute : Registry.ATTRIBUTE) {
+			AttributeInstance instance = getAttribute(attribute);
+			if (instance != null)
+				instance.removeModifiers();
+		}
+		removeAllEffects();
+		((ItemCooldownsAccessor) getCooldowns()).create$getCooldowns()
+			.clear();
+		clearFire();
+		setAirSupply(getMaxAirSupply());
+		experienceLevel = 0;
+		experienceProgress = 0;
+		totalExperience = 0;
+	}
+
 	public static float deployerHasEyesOnHisFeet(Entity entity, float height) {
 		if (entity instanceof DeployerFakePlayer)
 			return 0;
@@ -21,20 +21,20 @@ import net.minecraft.world.item.ItemStack;
 public class DeployerItemHandler extends SnapshotParticipant<Unit> implements Storage<ItemVariant> {
 
 	private DeployerBlockEntity be;
-	private DeployerFakePlayer player;
 
 	public DeployerItemHandler(DeployerBlockEntity be) {
 		this.be = be;
-		this.player = be.player;
 	}
 
 	public ItemStack getHeld() {
+		DeployerFakePlayer player = be.player;
 		if (player == null)
 			return ItemStack.EMPTY;
 		return player.getMainHandItem();
 	}
 
 	public void set(ItemStack stack) {
+		DeployerFakePlayer player = be.player;
 		if (player == null)
 			return;
 		if (be.getLevel().isClientSide)
@@ -166,8 +166,8 @@ public class DeployerItemHandler extends SnapshotParticipant<Unit> implements St
 			Consumer<ItemStack> heldSetter = (stack) -> be.overflowItems.set(indexFinal, stack);
 			Predicate<ItemStack> mayExtract = stack -> true;
 			if (index == -1) {
-				heldGetter = player::getMainHandItem;
-				heldSetter = s -> player.setItemInHand(InteractionHand.MAIN_HAND, s);
+				heldGetter = DeployerItemHandler.this::getHeld;
+				heldSetter = DeployerItemHandler.this::set;
 				mayExtract = s -> be.filtering.getFilter().isEmpty() || !be.filtering.test(s);
 				index = be.overflowItems.size(); // hasNext will be false now
 			}
@@ -224,7 +224,8 @@ public class DeployerMovementBehaviour implements MovementBehaviour {
 		cancelStall(context);
 		context.blockEntityData.put("Inventory", player.getInventory()
 			.save(new ListTag()));
-		player.discard();
+		DeployerPlayerPool.release(player);
+		context.temporaryData = null;
 	}
 
 	private void tryGrabbingItem(MovementContext context) {
@@ -236,8 +237,8 @@ public class DeployerMovementBehaviour implements MovementBehaviour {
 			FilterItemStack filter = context.getFilterFromBE();
 			if (AllItems.SCHEMATIC.isIn(filter.item()))
 				return;
-			ItemStack held = ItemHelper.extract(context.contraption.getSharedInventory(),
-				stack -> filter.test(context.world, stack), 1, false);
+			ItemStack held = ItemHelper.extractMatching(context.contraption.getSharedInventory(),
+				variant -> filter.test(context.world, variant), 1, false);
 			player.setItemInHand(InteractionHand.MAIN_HAND, held);
 		}
 	}
@@ -272,10 +273,14 @@ public class DeployerMovementBehaviour implements MovementBehaviour {
 		context.data.put("HeldItem", NBTSerializer.serializeNBT(player.getMainHandItem()));
 	}
 
-	private DeployerFakePlayer getPlayer(MovementContext context) {
+	/**
+	 * Takes a player from the {@link DeployerPlayerPool} the first time a moving
+	 * deployer needs one, it goes back in {@link #stopMoving}.
+	 */
+	static DeployerFakePlayer getPlayer(MovementContext context) {
 		if (!(context.temporaryData instanceof DeployerFakePlayer) && context.world instanceof ServerLevel) {
 			UUID owner = context.blockEntityData.contains("Owner") ? context.blockEntityData.getUUID("Owner") : null;
-			DeployerFakePlayer deployerFakePlayer = new DeployerFakePlayer((ServerLevel) context.world, owner);
+			DeployerFakePlayer deployerFakePlayer = DeployerPlayerPool.checkOut((ServerLevel) context.world, owner);
 			deployerFakePlayer.onMinecartContraption = context.contraption instanceof MountedContraption;
 			deployerFakePlayer.getInventory()
 				.load(context.blockEntityData.getList("Inventory", Tag.TAG_COMPOUND));
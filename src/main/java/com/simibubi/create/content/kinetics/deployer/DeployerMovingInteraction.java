@@ -1,7 +1,5 @@
 package com.simibubi.create.content.kinetics.deployer;
 
-import java.util.UUID;
-
 import com.simibubi.create.foundation.utility.AdventureUtil;
 
 import org.apache.commons.lang3.tuple.MutablePair;
@@ -10,13 +8,10 @@ import com.simibubi.create.AllItems;
 import com.simibubi.create.content.contraptions.AbstractContraptionEntity;
 import com.simibubi.create.content.contraptions.behaviour.MovementContext;
 import com.simibubi.create.content.contraptions.behaviour.MovingInteractionBehaviour;
-import com.simibubi.create.content.contraptions.mounted.MountedContraption;
 import com.simibubi.create.foundation.utility.NBTHelper;
 
 import io.github.fabricators_of_create.porting_lib.util.NBTSerializer;
 import net.minecraft.core.BlockPos;
-import net.minecraft.nbt.Tag;
-import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.InteractionHand;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.ItemStack;
@@ -45,19 +40,8 @@ public class DeployerMovingInteraction extends MovingInteractionBehaviour {
 		} else {
 			if (ctx.world.isClientSide)
 				return true; // we'll try again on the server side
-			DeployerFakePlayer fake = null;
-
-			if (!(ctx.temporaryData instanceof DeployerFakePlayer) && ctx.world instanceof ServerLevel) {
-				UUID owner = ctx.blockEntityData.contains("Owner") ? ctx.blockEntityData.getUUID("Owner") : null;
-				DeployerFakePlayer deployerFakePlayer = new DeployerFakePlayer((ServerLevel) ctx.world, owner);
-				deployerFakePlayer.onMinecartContraption = ctx.contraption instanceof MountedContraption;
-				deployerFakePlayer.getInventory()
-					.load(ctx.blockEntityData.getList("Inventory", Tag.TAG_COMPOUND));
-				ctx.temporaryData = fake = deployerFakePlayer;
-				ctx.blockEntityData.remove("Inventory");
-			} else
-				fake = (DeployerFakePlayer) ctx.temporaryData;
-
+			// Shares the moving deployer's player, which is released when the contraption stops
+			DeployerFakePlayer fake = DeployerMovementBehaviour.getPlayer(ctx);
 			if (fake == null)
 				return false;
 
@@ -0,0 +1,47 @@
+package com.simibubi.create.content.kinetics.deployer;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import javax.annotation.Nullable;
+
+import com.simibubi.create.foundation.utility.WorldAttached;
+
+import net.minecraft.server.level.ServerLevel;
+
+/**
+ * Fake players no longer needed by a deployer, kept per level and owner so the
+ * next deployer to load does not have to build a new server player.
+ * <br>
+ * A checked out player belongs to whoever holds it until it is released again.
+ * Released players are emptied and lose any block breaking progress, so callers
+ * have to save the inventory first.
+ */
+public class DeployerPlayerPool {
+
+	public static final int MAX_IDLE_PER_OWNER = 16;
+
+	private static final WorldAttached<Map<UUID, Deque<DeployerFakePlayer>>> IDLE =
+		new WorldAttached<>($ -> new HashMap<>());
+
+	public static DeployerFakePlayer checkOut(ServerLevel level, @Nullable UUID owner) {
+		Deque<DeployerFakePlayer> idle = IDLE.get(level)
+			.get(owner);
+		DeployerFakePlayer player = idle == null ? null : idle.poll();
+		return player == null ? new DeployerFakePlayer(level, owner) : player;
+	}
+
+	public static void release(DeployerFakePlayer player) {
+		player.resetForReuse();
+		Deque<DeployerFakePlayer> idle = IDLE.get(player.level)
+			.computeIfAbsent(player.getOwner(), $ -> new ArrayDeque<>());
+		if (idle.size() < MAX_IDLE_PER_OWNER)
+			idle.push(player);
+		else
+			player.discard();
+	}
+
+}
@@ -46,28 +46,27 @@ public class ManualApplicationRecipe extends ItemApplicationRecipe {
 		if (blockState.isAir())
 			return InteractionResult.PASS;
 
-		RecipeType<Recipe<Container>> type = AllRecipeTypes.ITEM_APPLICATION.getType();
-		Optional<Recipe<Container>> foundRecipe = level.getRecipeManager()
-			.getAllRecipesFor(type)
-			.stream()
-			.filter(r -> {
-				ManualApplicationRecipe mar = (ManualApplicationRecipe) r;
-				return mar.testBlock(blockState) && mar.ingredients.get(1)
-					.test(heldItem);
-			})
-			.findFirst();
-
+		Optional<ManualApplicationRecipe> foundRecipe = find(level, blockState, heldItem);
 		if (foundRecipe.isEmpty())
 			return InteractionResult.PASS;
 
 //		event.setCancellationResult(InteractionResult.SUCCESS);
 //		event.setCanceled(true);
 
+		return apply(player, level, hand, pos, blockState, foundRecipe.get());
+	}
+
+	/**
+	 * Applies a recipe already known to match the block and the item in the
+	 * player's hand.
+	 */
+	public static InteractionResult apply(Player player, Level level, InteractionHand hand, BlockPos pos,
+		BlockState blockState, ManualApplicationRecipe recipe) {
 		if (level.isClientSide())
 			return InteractionResult.SUCCESS;
 
+		ItemStack heldItem = player.getItemInHand(hand);
 		level.playSound(null, pos, SoundEvents.COPPER_BREAK, SoundSource.PLAYERS, 1, 1.45f);
-		ManualApplicationRecipe recipe = (ManualApplicationRecipe) foundRecipe.get();
 		level.destroyBlock(pos, false);
 
 		BlockState transformedBlock = recipe.transformBlock(blockState);
@@ -91,6 +90,16 @@ public class ManualApplicationRecipe extends ItemApplicationRecipe {
 		return InteractionResult.SUCCESS;
 	}
 
+	public static Optional<ManualApplicationRecipe> find(Level level, BlockState blockState, ItemStack heldItem) {
+		RecipeType<Recipe<Container>> type = AllRecipeTypes.ITEM_APPLICATION.getType();
+		return level.getRecipeManager()
+			.getAllRecipesFor(type)
+			.stream()
+			.map(r -> (ManualApplicationRecipe) r)
+			.filter(r -> r.appliesTo(blockState, heldItem))
+			.findFirst();
+	}
+
 	private static void awardAdvancements(Player player, BlockState placed) {
 		CreateAdvancement advancement = null;
 
@@ -126,6 +135,11 @@ public class ManualApplicationRecipe extends ItemApplicationRecipe {
 		return builder.build();
 	}
 
+	public boolean appliesTo(BlockState blockState, ItemStack heldItem) {
+		return testBlock(blockState) && ingredients.get(1)
+			.test(heldItem);
+	}
+
 	public boolean testBlock(BlockState in) {
 		return ingredients.get(0)
 			.test(new ItemStack(in.getBlock()
@@ -393,6 +393,11 @@ public class AllArmInteractionPointTypes {
 			super(type, level, pos, state);
 		}
 
+		@Override
+		public ContentStamp getContentStamp() {
+			return null;
+		}
+
 		@Override
 		public ItemStack insert(ItemStack stack, TransactionContext ctx) {
 			ItemStack input = stack.copy();
@@ -493,6 +498,11 @@ public class AllArmInteractionPointTypes {
 			super(type, level, pos, state);
 		}
 
+		@Override
+		public ContentStamp getContentStamp() {
+			return null;
+		}
+
 		@Override
 		protected Vec3 getInteractionPositionVector() {
 			Direction funnelFacing = FunnelBlock.getFunnelFacing(cachedState);
@@ -550,6 +560,11 @@ public class AllArmInteractionPointTypes {
 			super(type, level, pos, state);
 		}
 
+		@Override
+		public ContentStamp getContentStamp() {
+			return null;
+		}
+
 		@Override
 		public ItemStack insert(ItemStack stack, TransactionContext ctx) {
 			BlockEntity blockEntity = level.getBlockEntity(pos);
@@ -629,6 +644,11 @@ public class AllArmInteractionPointTypes {
 			super(type, level, pos, state);
 		}
 
+		@Override
+		public ContentStamp getContentStamp() {
+			return null;
+		}
+
 		@Override
 		public ItemStack insert(ItemStack stack, TransactionContext ctx) {
 			Item item = stack.getItem();
@@ -680,6 +700,11 @@ public class AllArmInteractionPointTypes {
 			super(type, level, pos, state);
 		}
 
+		@Override
+		public ContentStamp getContentStamp() {
+			return null;
+		}
+
 		@Override
 		protected Vec3 getInteractionPositionVector() {
 			return Vec3.atLowerCornerOf(pos)
@@ -1,7 +1,9 @@
 package com.simibubi.create.content.kinetics.mechanicalArm;
 
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
 import javax.annotation.Nullable;
 
@@ -11,6 +13,7 @@ import com.simibubi.create.content.contraptions.ITransformableBlockEntity;
 import com.simibubi.create.content.contraptions.StructureTransform;
 import com.simibubi.create.content.kinetics.base.KineticBlockEntity;
 import com.simibubi.create.content.kinetics.mechanicalArm.AllArmInteractionPointTypes.JukeboxPoint;
+import com.simibubi.create.content.kinetics.mechanicalArm.ArmInteractionPoint.ContentStamp;
 import com.simibubi.create.content.kinetics.mechanicalArm.ArmInteractionPoint.Mode;
 import com.simibubi.create.foundation.advancement.AllAdvancements;
 import com.simibubi.create.foundation.blockEntity.behaviour.BlockEntityBehaviour;
@@ -84,6 +87,10 @@ public class ArmBlockEntity extends KineticBlockEntity implements ITransformable
 	protected int lastOutputIndex = -1;
 	protected boolean redstoneLocked;
 
+	// Server: points that had nothing to offer, and the contents they were checked against
+	protected Map<ArmInteractionPoint, IdleInput> idleInputs;
+	protected Map<ArmInteractionPoint, ContentStamp> fullOutputs;
+
 	public enum Phase {
 		SEARCH_INPUTS, MOVE_TO_INPUT, SEARCH_OUTPUTS, MOVE_TO_OUTPUT, DANCING
 	}
@@ -109,6 +116,13 @@ public class ArmBlockEntity extends KineticBlockEntity implements ITransformable
 		updateInteractionPoints = true;
 		redstoneLocked = false;
 		goggles = false;
+		idleInputs = new IdentityHashMap<>();
+		fullOutputs = new IdentityHashMap<>();
+	}
+
+	@Override
+	protected boolean usesBatchedSync() {
+		return true;
 	}
 
 	@Override
@@ -260,13 +274,52 @@ public class ArmBlockEntity extends KineticBlockEntity implements ITransformable
 		if (scanRange > inputs.size())
 			scanRange = inputs.size();
 
+		List<ContentStamp> outputStamps = null;
+		boolean outputStampsCollected = false;
+
 		InteractionPoints: for (int i = startIndex; i < scanRange; i++) {
 			ArmInteractionPoint armInteractionPoint = inputs.get(i);
 			if (!armInteractionPoint.isValid())
 				continue;
 
-			if (getDistributableAmount(armInteractionPoint) == 0)
+			ContentStamp stamp = armInteractionPoint.getContentStamp();
+			IdleInput idle = idleInputs.get(armInteractionPoint);
+			if (idle != null && stamp != null && stamp.equals(idle.input())) {
+				if (idle.outputs() == null)
+					continue;
+				if (!outputStampsCollected) {
+					outputStamps = getOutputStamps();
+					outputStampsCollected = true;
+				}
+				if (idle.outputs()
+					.equals(outputStamps))
+					continue;
+			}
+			idleInputs.remove(armInteractionPoint);
+
+			boolean nothingToExtract;
+			int distributableAmount;
+			try (Transaction t = TransferUtil.getTransaction()) {
+				ItemStack stack = armInteractionPoint.extract(t);
+				nothingToExtract = stack.isEmpty();
+				distributableAmount = getDistributableAmount(stack);
+			}
+
+			if (distributableAmount == 0) {
+				if (stamp == null)
+					continue;
+				if (nothingToExtract) {
+					idleInputs.put(armInteractionPoint, new IdleInput(stamp, null));
+					continue;
+				}
+				if (!outputStampsCollected) {
+					outputStamps = getOutputStamps();
+					outputStampsCollected = true;
+				}
+				if (outputStamps != null)
+					idleInputs.put(armInteractionPoint, new IdleInput(stamp, outputStamps));
 				continue;
+			}
 
 			selectIndex(true, i);
 			foundInput = true;
@@ -297,15 +350,28 @@ public class ArmBlockEntity extends KineticBlockEntity implements ITransformable
 		if (scanRange > outputs.size())
 			scanRange = outputs.size();
 
+		// Versions are only meaningful outside of transactions
+		List<ContentStamp> stamps = new ArrayList<>();
+		for (int i = startIndex; i < scanRange; i++)
+			stamps.add(outputs.get(i)
+				.getContentStamp());
+
 		try (Transaction t = TransferUtil.getTransaction()) {
 			for (int i = startIndex; i < scanRange; i++) {
 				ArmInteractionPoint armInteractionPoint = outputs.get(i);
 				if (!armInteractionPoint.isValid())
 					continue;
 
+				ContentStamp stamp = stamps.get(i - startIndex);
+				if (stamp != null && stamp.equals(fullOutputs.get(armInteractionPoint)))
+					continue;
+
 				ItemStack remainder = armInteractionPoint.insert(held, t);
-				if (ItemStackUtil.equals(remainder, heldItem, false))
+				if (ItemStackUtil.equals(remainder, heldItem, false)) {
+					if (stamp != null)
+						fullOutputs.put(armInteractionPoint, stamp);
 					continue;
+				}
 
 				selectIndex(false, i);
 				foundOutput = true;
@@ -340,14 +406,29 @@ public class ArmBlockEntity extends KineticBlockEntity implements ITransformable
 	protected int getDistributableAmount(ArmInteractionPoint armInteractionPoint) {
 		try (Transaction t = TransferUtil.getTransaction()) {
 			ItemStack stack = armInteractionPoint.extract(t);
+			return getDistributableAmount(stack);
+		}
+	}
 
-			ItemStack remainder = stack.isEmpty() ? stack : simulateInsertion(stack);
-			if (stack.sameItem(remainder)) {
-				return stack.getCount() - remainder.getCount();
-			} else {
-				return stack.getCount();
-			}
+	private int getDistributableAmount(ItemStack stack) {
+		ItemStack remainder = stack.isEmpty() ? stack : simulateInsertion(stack);
+		if (stack.sameItem(remainder)) {
+			return stack.getCount() - remainder.getCount();
+		} else {
+			return stack.getCount();
+		}
+	}
+
+	@Nullable
+	private List<ContentStamp> getOutputStamps() {
+		List<ContentStamp> stamps = new ArrayList<>(outputs.size());
+		for (ArmInteractionPoint output : outputs) {
+			ContentStamp stamp = output.getContentStamp();
+			if (stamp == null)
+				return null;
+			stamps.add(stamp);
 		}
+		return stamps;
 	}
 
 	private ItemStack simulateInsertion(ItemStack stack) {
@@ -370,6 +451,7 @@ public class ArmBlockEntity extends KineticBlockEntity implements ITransformable
 				ItemStack remainder = armInteractionPoint.insert(toInsert, t);
 				t.commit();
 				heldItem = remainder;
+				fullOutputs.clear();
 
 				if (armInteractionPoint instanceof JukeboxPoint && remainder.isEmpty())
 					award(AllAdvancements.MUSICAL_ARM);
@@ -395,6 +477,7 @@ public class ArmBlockEntity extends KineticBlockEntity implements ITransformable
 					return;
 				ItemStack prevHeld = heldItem;
 				heldItem = armInteractionPoint.extract(amountExtracted, t);
+				fullOutputs.clear();
 				phase = Phase.SEARCH_OUTPUTS;
 				chasedPointProgress = 0;
 				chasedPointIndex = -1;
@@ -482,6 +565,8 @@ public class ArmBlockEntity extends KineticBlockEntity implements ITransformable
 			return;
 		inputs.clear();
 		outputs.clear();
+		idleInputs.clear();
+		fullOutputs.clear();
 
 		boolean hasBlazeBurner = false;
 		for (Tag tag : interactionPointTag) {
@@ -663,4 +748,8 @@ public class ArmBlockEntity extends KineticBlockEntity implements ITransformable
 		}
 	}
 
+	// A null list of outputs means the input itself was empty
+	protected record IdleInput(ContentStamp input, @Nullable List<ContentStamp> outputs) {
+	}
+
 }
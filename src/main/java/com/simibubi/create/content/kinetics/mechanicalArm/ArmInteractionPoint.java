@@ -119,6 +119,18 @@ public class ArmInteractionPoint {
 		return extract(64, ctx);
 	}
 
+	/**
+	 * Identifies the current contents of this point, equal stamps meaning that
+	 * nothing changed in between. Lets arms skip points they already found to
+	 * have nothing to offer. Points that do not interact through their item
+	 * storage alone should return null.
+	 */
+	@Nullable
+	public ContentStamp getContentStamp() {
+		Storage<ItemVariant> handler = getHandler();
+		return new ContentStamp(handler, handler == null ? -1 : handler.getVersion());
+	}
+
 	protected void serialize(CompoundTag nbt, BlockPos anchor) {
 		NBTHelper.writeEnum(nbt, "Mode", mode);
 	}
@@ -172,6 +184,9 @@ public class ArmInteractionPoint {
 		return type.createPoint(level, pos, state);
 	}
 
+	public record ContentStamp(@Nullable Storage<ItemVariant> handler, long version) {
+	}
+
 	public enum Mode {
 		DEPOSIT("mechanical_arm.deposit_to", 0xDDC166),
 		TAKE("mechanical_arm.extract_from", 0x7FCDE0);
@@ -89,6 +89,9 @@ public class ChuteBlockEntity extends SmartBlockEntity implements IHaveGoggleInf
 
 	VersionedInventoryTrackerBehaviour invVersionTracker;
 
+	ChuteColumn column;
+	int columnCheckCooldown;
+
 	StorageProvider<ItemVariant> capAbove;
 	StorageProvider<ItemVariant> capBelow;
 
@@ -111,6 +114,11 @@ public class ChuteBlockEntity extends SmartBlockEntity implements IHaveGoggleInf
 		capBelow = StorageProvider.createForItems(level, worldPosition.below());
 	}
 
+	@Override
+	protected boolean usesBatchedSync() {
+		return true;
+	}
+
 	@Override
 	public void addBehaviours(List<BlockEntityBehaviour> behaviours) {
 		behaviours.add(new DirectBeltInputBehaviour(this).onlyInsertWhen((d) -> canDirectlyInsertCached()));
@@ -150,15 +158,27 @@ public class ChuteBlockEntity extends SmartBlockEntity implements IHaveGoggleInf
 	public void tick() {
 		super.tick();
 
-		if (!level.isClientSide)
-			canPickUpItems = canDirectlyInsert();
-
 		boolean clientSide = level != null && level.isClientSide && !isVirtual();
 		float itemMotion = getItemMotion();
 		if (itemMotion != 0 && level != null && level.isClientSide)
 			spawnParticles(itemMotion);
+
+		// Inner chutes of a column are moved along by its output end
+		ChuteColumn column = getColumn();
+		if (column != null && column.isInterior(this)) {
+			canPickUpItems = false;
+			return;
+		}
+
+		if (!level.isClientSide)
+			canPickUpItems = canDirectlyInsert();
 		tickAirStreams(itemMotion);
 
+		if (column != null && column.isOutput(this) && column.validate(level)) {
+			column.tick();
+			return;
+		}
+
 		if (item.isEmpty() && !clientSide) {
 			if (itemMotion < 0)
 				handleInputFromAbove();
@@ -167,6 +187,11 @@ public class ChuteBlockEntity extends SmartBlockEntity implements IHaveGoggleInf
 			return;
 		}
 
+		if (column == null || column.isInvalidated())
+			tickItem(itemMotion, clientSide);
+	}
+
+	void tickItem(float itemMotion, boolean clientSide) {
 		float nextOffset = itemPosition.getValue() + itemMotion;
 
 		if (itemMotion < 0) {
@@ -192,6 +217,30 @@ public class ChuteBlockEntity extends SmartBlockEntity implements IHaveGoggleInf
 		itemPosition.setValue(nextOffset);
 	}
 
+	@Nullable
+	private ChuteColumn getColumn() {
+		if (level == null || level.isClientSide || isVirtual())
+			return null;
+		if (column != null && !column.isInvalidated())
+			return column;
+		column = null;
+		if (columnCheckCooldown-- > 0)
+			return null;
+		columnCheckCooldown = 20;
+		ChuteColumn found = ChuteColumn.of(this);
+		if (found != null)
+			for (ChuteBlockEntity member : found.getMembers())
+				member.column = found;
+		return column;
+	}
+
+	void invalidateColumn() {
+		if (column != null)
+			column.invalidate();
+		column = null;
+		columnCheckCooldown = 0;
+	}
+
 	private void updateAirFlow(float itemSpeed) {
 		updateAirFlow = false;
 		// airCurrent.rebuild();
@@ -351,12 +400,12 @@ public class ChuteBlockEntity extends SmartBlockEntity implements IHaveGoggleInf
 			return;
 		if (invVersionTracker.stillWaiting(inv))
 			return;
-		Predicate<ItemStack> canAccept = this::canAcceptItem;
+		Predicate<ItemVariant> canAccept = this::canAcceptVariant;
 		int count = getExtractionAmount();
 		ExtractionCountMode mode = getExtractionMode();
-		if (mode == ExtractionCountMode.UPTO || !ItemHelper.extract(inv, canAccept, mode, count, true)
+		if (mode == ExtractionCountMode.UPTO || !ItemHelper.extractMatching(inv, canAccept, mode, count, true)
 			.isEmpty()) {
-			ItemStack extracted = ItemHelper.extract(inv, canAccept, mode, count, false);
+			ItemStack extracted = ItemHelper.extractMatching(inv, canAccept, mode, count, false);
 			if (!extracted.isEmpty()) {
 				setItem(extracted, startLocation);
 				return;
@@ -511,6 +560,10 @@ public class ChuteBlockEntity extends SmartBlockEntity implements IHaveGoggleInf
 		return item.isEmpty();
 	}
 
+	protected boolean canAcceptVariant(ItemVariant variant) {
+		return item.isEmpty();
+	}
+
 	protected int getExtractionAmount() {
 		return 16;
 	}
@@ -551,6 +604,25 @@ public class ChuteBlockEntity extends SmartBlockEntity implements IHaveGoggleInf
 		}
 	}
 
+	/**
+	 * Hands an item over within a {@link ChuteColumn}, which syncs all of its
+	 * changes at once.
+	 */
+	void moveItem(ItemStack stack, float insertionPos) {
+		item = stack;
+		itemPosition.startWithValue(insertionPos);
+		itemHandler.update();
+		invVersionTracker.reset();
+	}
+
+	void receiveItem(ItemStack stack, float position) {
+		ItemStack previousItem = item;
+		item = stack;
+		itemPosition.startWithValue(position);
+		itemHandler.update();
+		spawnItemParticles(previousItem);
+	}
+
 	@Override
 	public void invalidate() {
 		super.invalidate();
@@ -579,7 +651,12 @@ public class ChuteBlockEntity extends SmartBlockEntity implements IHaveGoggleInf
 //		if (clientPacket)
 //			airCurrent.rebuild();
 
-		if (hasLevel() && level != null && level.isClientSide && !ItemStackUtil.equals(previousItem, item, false) && !item.isEmpty()) {
+		if (hasLevel())
+			spawnItemParticles(previousItem);
+	}
+
+	private void spawnItemParticles(ItemStack previousItem) {
+		if (level != null && level.isClientSide && !ItemStackUtil.equals(previousItem, item, false) && !item.isEmpty()) {
 			if (level.random.nextInt(3) != 0)
 				return;
 			Vec3 p = VecHelper.getCenterOf(worldPosition);
@@ -602,6 +679,7 @@ public class ChuteBlockEntity extends SmartBlockEntity implements IHaveGoggleInf
 	@Override
 	public void destroy() {
 		super.destroy();
+		invalidateColumn();
 		ChuteBlockEntity targetChute = getTargetChute(getBlockState());
 		List<ChuteBlockEntity> inputChutes = getInputChutes();
 		if (!item.isEmpty() && level != null)
@@ -618,9 +696,10 @@ public class ChuteBlockEntity extends SmartBlockEntity implements IHaveGoggleInf
 		refreshBlockState();
 		updatePull();
 		ChuteBlockEntity targetChute = getTargetChute(getBlockState());
-		if (targetChute != null)
+		if (targetChute != null) {
+			targetChute.invalidateColumn();
 			targetChute.propagatePush();
-		else
+		} else
 			updatePush(1);
 	}
 
@@ -630,6 +709,7 @@ public class ChuteBlockEntity extends SmartBlockEntity implements IHaveGoggleInf
 			return;
 		pull = totalPull;
 		updateAirFlow = true;
+		invalidateColumn();
 		sendData();
 		ChuteBlockEntity targetChute = getTargetChute(getBlockState());
 		if (targetChute != null)
@@ -642,6 +722,7 @@ public class ChuteBlockEntity extends SmartBlockEntity implements IHaveGoggleInf
 			return;
 		updateAirFlow = true;
 		push = totalPush;
+		invalidateColumn();
 		sendData();
 		propagatePush();
 	}
@@ -711,7 +792,7 @@ public class ChuteBlockEntity extends SmartBlockEntity implements IHaveGoggleInf
 		return null;
 	}
 
-	private List<ChuteBlockEntity> getInputChutes() {
+	List<ChuteBlockEntity> getInputChutes() {
 		List<ChuteBlockEntity> inputs = new LinkedList<>();
 		for (Direction d : Iterate.directions) {
 			ChuteBlockEntity inputChute = getInputChute(d);
@@ -0,0 +1,184 @@
+package com.simibubi.create.content.logistics.chute;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+import com.simibubi.create.AllPackets;
+
+import net.minecraft.core.Direction;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.entity.BlockEntity;
+
+/**
+ * A straight vertical run of plain chutes moving items at the same speed. The
+ * members are ordered from the end items enter at to the end they leave from,
+ * and each one is a slot in the queue of items passing through.
+ * <br>
+ * Only the two ends interact with the world. The output end advances all items
+ * of the column in one pass and hands them from slot to slot directly, sending
+ * the changes to clients as a single packet. Smart chutes, branches and changes
+ * in speed split a run into separate columns or single chutes.
+ */
+public class ChuteColumn {
+
+	public static final int MIN_LENGTH = 3;
+	public static final int MAX_AGE = 100;
+
+	private final List<ChuteBlockEntity> members;
+	private final float itemMotion;
+	private final long createdAt;
+	private boolean invalidated;
+
+	private ChuteColumn(List<ChuteBlockEntity> members, float itemMotion, long gameTime) {
+		this.members = members;
+		this.itemMotion = itemMotion;
+		this.createdAt = gameTime;
+	}
+
+	/**
+	 * Collects the run of chutes the given chute is part of.
+	 *
+	 * @return the column, or null if the run is too short to be worth merging
+	 */
+	@Nullable
+	public static ChuteColumn of(ChuteBlockEntity chute) {
+		if (!canJoin(chute))
+			return null;
+		float itemMotion = chute.getItemMotion();
+
+		ChuteBlockEntity top = chute;
+		while (true) {
+			ChuteBlockEntity above = getChuteAt(top.getLevel(), top, Direction.UP);
+			if (above == null || !isLink(above, top, itemMotion))
+				break;
+			top = above;
+		}
+
+		List<ChuteBlockEntity> members = new ArrayList<>();
+		members.add(top);
+		ChuteBlockEntity current = top;
+		while (true) {
+			ChuteBlockEntity below = getChuteAt(current.getLevel(), current, Direction.DOWN);
+			if (below == null || !isLink(current, below, itemMotion))
+				break;
+			members.add(below);
+			current = below;
+		}
+
+		if (members.size() < MIN_LENGTH)
+			return null;
+		if (itemMotion > 0)
+			Collections.reverse(members);
+		return new ChuteColumn(members, itemMotion, chute.getLevel()
+			.getGameTime());
+	}
+
+	private static boolean canJoin(ChuteBlockEntity chute) {
+		return chute.getClass() == ChuteBlockEntity.class && !chute.isRemoved()
+			&& AbstractChuteBlock.getChuteFacing(chute.getBlockState()) == Direction.DOWN;
+	}
+
+	private static boolean isLink(ChuteBlockEntity upper, ChuteBlockEntity lower, float itemMotion) {
+		return canJoin(upper) && canJoin(lower) && upper.getItemMotion() == itemMotion
+			&& lower.getItemMotion() == itemMotion && lower.getInputChutes()
+				.size() == 1;
+	}
+
+	@Nullable
+	private static ChuteBlockEntity getChuteAt(Level level, ChuteBlockEntity chute, Direction side) {
+		BlockEntity be = level.getBlockEntity(chute.getBlockPos()
+			.relative(side));
+		return be instanceof ChuteBlockEntity other ? other : null;
+	}
+
+	/**
+	 * Checks the whole column, called once per tick by its output end. Members
+	 * only look at the flag this sets.
+	 */
+	public boolean validate(Level level) {
+		if (invalidated)
+			return false;
+		if (level.getGameTime() - createdAt >= MAX_AGE)
+			invalidated = true;
+		for (ChuteBlockEntity member : members)
+			if (member.column != this || !canJoin(member) || member.getItemMotion() != itemMotion)
+				invalidated = true;
+		return !invalidated;
+	}
+
+	public void invalidate() {
+		invalidated = true;
+	}
+
+	public boolean isInvalidated() {
+		return invalidated;
+	}
+
+	public List<ChuteBlockEntity> getMembers() {
+		return members;
+	}
+
+	public boolean isInput(ChuteBlockEntity chute) {
+		return members.get(0) == chute;
+	}
+
+	public boolean isOutput(ChuteBlockEntity chute) {
+		return members.get(members.size() - 1) == chute;
+	}
+
+	public boolean isInterior(ChuteBlockEntity chute) {
+		return !isInput(chute) && !isOutput(chute);
+	}
+
+	/**
+	 * Advances the items of all members, starting at the output end so that a
+	 * slot freed this tick can be filled right away.
+	 */
+	void tick() {
+		ChuteBlockEntity output = members.get(members.size() - 1);
+		Level level = output.getLevel();
+		if (!output.item.isEmpty())
+			output.tickItem(itemMotion, false);
+
+		boolean downward = itemMotion < 0;
+		float entry = downward ? 1 : 0;
+		float exit = downward ? 0 : 1;
+		Set<ChuteBlockEntity> changed = new LinkedHashSet<>();
+
+		for (int i = members.size() - 2; i >= 0; i--) {
+			ChuteBlockEntity member = members.get(i);
+			if (member.item.isEmpty())
+				continue;
+			ChuteBlockEntity next = members.get(i + 1);
+			float nextOffset = member.itemPosition.getValue() + itemMotion;
+
+			if (downward ? nextOffset < .5f : nextOffset > .5f) {
+				if (!next.item.isEmpty())
+					nextOffset = .5f;
+				else if (downward ? nextOffset < exit : nextOffset > exit) {
+					next.moveItem(member.item, entry);
+					member.moveItem(ItemStack.EMPTY, entry);
+					changed.add(member);
+					changed.add(next);
+					continue;
+				}
+			}
+
+			member.itemPosition.setValue(nextOffset);
+		}
+
+		if (changed.isEmpty())
+			return;
+		output.setChanged();
+		AllPackets.getChannel()
+			.sendToClientsTracking(new ChuteColumnPacket(output, changed), (ServerLevel) level, output.getBlockPos());
+	}
+
+}
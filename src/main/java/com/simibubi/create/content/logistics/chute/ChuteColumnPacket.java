@@ -0,0 +1,70 @@
+package com.simibubi.create.content.logistics.chute;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import com.simibubi.create.foundation.networking.BlockEntityDataPacket;
+
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.block.entity.BlockEntity;
+
+/**
+ * Items handed between the members of a {@link ChuteColumn} during one tick,
+ * relative to the output end of the column.
+ */
+public class ChuteColumnPacket extends BlockEntityDataPacket<ChuteBlockEntity> {
+
+	private final List<Entry> entries;
+
+	public ChuteColumnPacket(FriendlyByteBuf buffer) {
+		super(buffer);
+		int size = buffer.readVarInt();
+		entries = new ArrayList<>(size);
+		for (int i = 0; i < size; i++)
+			entries.add(new Entry(readZigZag(buffer), buffer.readItem(), buffer.readFloat()));
+	}
+
+	public ChuteColumnPacket(ChuteBlockEntity output, Collection<ChuteBlockEntity> changed) {
+		super(output.getBlockPos());
+		entries = new ArrayList<>(changed.size());
+		for (ChuteBlockEntity chute : changed)
+			entries.add(new Entry(chute.getBlockPos()
+				.getY() - pos.getY(), chute.getItem(), chute.itemPosition.getValue()));
+	}
+
+	@Override
+	protected void writeData(FriendlyByteBuf buffer) {
+		buffer.writeVarInt(entries.size());
+		for (Entry entry : entries) {
+			writeZigZag(buffer, entry.offset);
+			buffer.writeItem(entry.item);
+			buffer.writeFloat(entry.position);
+		}
+	}
+
+	@Override
+	protected void handlePacket(ChuteBlockEntity blockEntity) {
+		for (Entry entry : entries) {
+			BlockEntity be = blockEntity.getLevel()
+				.getBlockEntity(pos.above(entry.offset));
+			if (be instanceof ChuteBlockEntity chute)
+				chute.receiveItem(entry.item, entry.position);
+		}
+	}
+
+	// Offsets are negative in columns moving items upwards, zigzag keeps those short
+	private static void writeZigZag(FriendlyByteBuf buffer, int value) {
+		buffer.writeVarInt((value << 1) ^ (value >> 31));
+	}
+
+	private static int readZigZag(FriendlyByteBuf buffer) {
+		int value = buffer.readVarInt();
+		return (value >>> 1) ^ -(value & 1);
+	}
+
+	private record Entry(int offset, ItemStack item, float position) {
+	}
+
+}
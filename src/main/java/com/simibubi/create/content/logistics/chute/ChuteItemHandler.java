@@ -24,7 +24,7 @@ public class ChuteItemHandler extends SingleVariantStorage<ItemVariant> {
 
 	@Override
 	public long insert(ItemVariant insertedVariant, long maxAmount, TransactionContext transaction) {
-		if (!blockEntity.canAcceptItem(insertedVariant.toStack()))
+		if (!blockEntity.canAcceptVariant(insertedVariant))
 			return 0;
 		return super.insert(insertedVariant, maxAmount, transaction);
 	}
@@ -6,6 +6,7 @@ import com.simibubi.create.foundation.blockEntity.behaviour.BlockEntityBehaviour
 import com.simibubi.create.foundation.blockEntity.behaviour.filtering.FilteringBehaviour;
 import com.simibubi.create.foundation.item.ItemHelper.ExtractionCountMode;
 
+import net.fabricmc.fabric.api.transfer.v1.item.ItemVariant;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.world.item.ItemStack;
@@ -25,6 +26,11 @@ public class SmartChuteBlockEntity extends ChuteBlockEntity {
 		return super.canAcceptItem(stack) && canActivate() && filtering.test(stack);
 	}
 
+	@Override
+	protected boolean canAcceptVariant(ItemVariant variant) {
+		return super.canAcceptVariant(variant) && canActivate() && filtering.test(variant);
+	}
+
 	@Override
 	protected int getExtractionAmount() {
 		return filtering.isCountVisible() && !filtering.anyAmount() ? filtering.getAmount() : 64;
@@ -24,6 +24,11 @@ public class DepotBlockEntity extends SmartBlockEntity implements ItemTransferab
 		super(type, pos, state);
 	}
 
+	@Override
+	protected boolean usesBatchedSync() {
+		return true;
+	}
+
 	@Override
 	public void addBehaviours(List<BlockEntityBehaviour> behaviours) {
 		behaviours.add(depotBehaviour = new DepotBehaviour(this));
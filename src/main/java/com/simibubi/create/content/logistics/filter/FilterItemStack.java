@@ -1,7 +1,9 @@
 package com.simibubi.create.content.logistics.filter;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import com.simibubi.create.AllItems;
 import com.simibubi.create.content.fluids.transfer.GenericItemEmptying;
@@ -9,15 +11,22 @@ import com.simibubi.create.foundation.utility.Pair;
 
 import io.github.fabricators_of_create.porting_lib.transfer.item.ItemStackHandler;
 import io.github.fabricators_of_create.porting_lib.util.FluidStack;
+import it.unimi.dsi.fastutil.objects.Object2BooleanMap;
+import it.unimi.dsi.fastutil.objects.Object2BooleanOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import net.fabricmc.fabric.api.transfer.v1.item.ItemVariant;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
 import net.minecraft.nbt.Tag;
+import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.crafting.RecipeManager;
 import net.minecraft.world.level.Level;
 
 public class FilterItemStack {
 
 	private ItemStack filterItemStack;
+	private ItemVariant filterVariant;
 	private boolean fluidExtracted;
 	private FluidStack filterFluidStack;
 
@@ -83,6 +92,30 @@ public class FilterItemStack {
 		return FilterItem.testDirect(filterItemStack, stack, matchNBT);
 	}
 
+	public boolean test(Level world, ItemVariant variant) {
+		return test(world, variant, false);
+	}
+
+	/**
+	 * Same as {@link #test(Level, ItemStack, boolean)}, without creating a stack
+	 * for the tested variant.
+	 */
+	public boolean test(Level world, ItemVariant variant, boolean matchNBT) {
+		if (isEmpty())
+			return true;
+		if (variant.isBlank())
+			return false;
+		if (matchNBT)
+			return variant.equals(getFilterVariant());
+		return variant.isOf(filterItemStack.getItem());
+	}
+
+	private ItemVariant getFilterVariant() {
+		if (filterVariant == null)
+			filterVariant = ItemVariant.of(filterItemStack);
+		return filterVariant;
+	}
+
 	public boolean test(Level world, FluidStack stack, boolean matchNBT) {
 		if (isEmpty())
 			return true;
@@ -122,6 +155,10 @@ public class FilterItemStack {
 		public boolean shouldRespectNBT;
 		public boolean isBlacklist;
 
+		// Lookup sets for lists of plain items, null if any entry is a filter itself
+		private Set<Item> itemSet;
+		private Set<ItemVariant> variantSet;
+
 		protected ListFilterItemStack(ItemStack filter) {
 			super(filter);
 			boolean defaults = !filter.hasTag();
@@ -140,6 +177,16 @@ public class FilterItemStack {
 			isBlacklist = defaults ? false
 				: filter.getTag()
 					.getBoolean("Blacklist");
+
+			if (containedItems.stream()
+				.allMatch(entry -> entry.getClass() == FilterItemStack.class)) {
+				itemSet = new ReferenceOpenHashSet<>();
+				variantSet = new HashSet<>();
+				for (FilterItemStack entry : containedItems) {
+					itemSet.add(entry.filterItemStack.getItem());
+					variantSet.add(entry.getFilterVariant());
+				}
+			}
 		}
 
 		@Override
@@ -152,6 +199,22 @@ public class FilterItemStack {
 			return isBlacklist;
 		}
 
+		@Override
+		public boolean test(Level world, ItemVariant variant, boolean matchNBT) {
+			if (containedItems.isEmpty())
+				return super.test(world, variant, matchNBT);
+			if (variant.isBlank())
+				return isBlacklist;
+			if (itemSet != null) {
+				boolean contained = shouldRespectNBT ? variantSet.contains(variant) : itemSet.contains(variant.getItem());
+				return contained != isBlacklist;
+			}
+			for (FilterItemStack filterItemStack : containedItems)
+				if (filterItemStack.test(world, variant, shouldRespectNBT))
+					return !isBlacklist;
+			return isBlacklist;
+		}
+
 		@Override
 		public boolean test(Level world, FluidStack stack, boolean matchNBT) {
 			for (FilterItemStack filterItemStack : containedItems)
@@ -168,9 +231,17 @@ public class FilterItemStack {
 			WHITELIST_DISJ, WHITELIST_CONJ, BLACKLIST;
 		}
 
+		private static final int MAX_CACHED_RESULTS = 256;
+
 		public WhitelistMode whitelistMode;
 		public List<Pair<ItemAttribute, Boolean>> attributeTests;
 
+		// Outcomes per variant, if no attribute looks at the world. Tags may change
+		// on reload, which replaces the recipe manager
+		private final Object2BooleanMap<ItemVariant> results = new Object2BooleanOpenHashMap<>();
+		private final boolean cacheResults;
+		private RecipeManager resultsRecipeManager;
+
 		protected AttributeFilterItemStack(ItemStack filter) {
 			super(filter);
 			boolean defaults = !filter.hasTag();
@@ -189,6 +260,9 @@ public class FilterItemStack {
 				if (attribute != null)
 					attributeTests.add(Pair.of(attribute, compound.getBoolean("Inverted")));
 			}
+			cacheResults = attributeTests.stream()
+				.noneMatch(test -> test.getFirst()
+					.usesWorld());
 		}
 
 		@Override
@@ -196,6 +270,25 @@ public class FilterItemStack {
 			return false;
 		}
 
+		@Override
+		public boolean test(Level world, ItemVariant variant, boolean matchNBT) {
+			if (attributeTests.isEmpty())
+				return super.test(world, variant, matchNBT);
+			if (!cacheResults || world == null)
+				return test(world, variant.toStack(), matchNBT);
+			if (resultsRecipeManager != world.getRecipeManager()) {
+				results.clear();
+				resultsRecipeManager = world.getRecipeManager();
+			}
+			if (results.containsKey(variant))
+				return results.getBoolean(variant);
+			boolean result = test(world, variant.toStack(), matchNBT);
+			if (results.size() >= MAX_CACHED_RESULTS)
+				results.clear();
+			results.put(variant, result);
+			return result;
+		}
+
 		@Override
 		public boolean test(Level world, ItemStack stack, boolean matchNBT) {
 			if (attributeTests.isEmpty())
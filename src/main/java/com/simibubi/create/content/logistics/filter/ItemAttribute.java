@@ -92,6 +92,15 @@ public interface ItemAttribute {
 
 	boolean appliesTo(ItemStack stack);
 
+	/**
+	 * Whether {@link #appliesTo(ItemStack, Level)} looks at the world, so that its
+	 * outcome may change for the same item. Filters only remember the outcome of
+	 * attributes that do not.
+	 */
+	default boolean usesWorld() {
+		return false;
+	}
+
 	default List<ItemAttribute> listAttributesOf(ItemStack stack, Level world) {
 		return listAttributesOf(stack);
 	}
@@ -191,6 +200,11 @@ public interface ItemAttribute {
 			return test.test(stack);
 		}
 
+		@Override
+		public boolean usesWorld() {
+			return testWithWorld != null;
+		}
+
 		@Override
 		public List<ItemAttribute> listAttributesOf(ItemStack stack, Level world) {
 			List<ItemAttribute> attributes = new ArrayList<>();
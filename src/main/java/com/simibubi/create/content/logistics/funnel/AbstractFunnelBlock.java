@@ -84,6 +84,7 @@ public abstract class AbstractFunnelBlock extends Block
 		InvManipulationBehaviour behaviour = BlockEntityBehaviour.get(worldIn, pos, InvManipulationBehaviour.TYPE);
 		if (behaviour != null)
 			behaviour.onNeighborChanged(fromPos);
+		withBlockEntityDo(worldIn, pos, FunnelBlockEntity::wake);
 		if (!worldIn.getBlockTicks()
 			.willTickThisTick(pos, this))
 			worldIn.scheduleTick(pos, this, 0);
@@ -17,6 +17,7 @@ import com.simibubi.create.content.kinetics.belt.transport.TransportedItemStack;
 import com.simibubi.create.content.logistics.funnel.BeltFunnelBlock.Shape;
 import com.simibubi.create.foundation.advancement.AllAdvancements;
 import com.simibubi.create.foundation.blockEntity.SmartBlockEntity;
+import com.simibubi.create.foundation.blockEntity.WakeConditions;
 import com.simibubi.create.foundation.blockEntity.behaviour.BlockEntityBehaviour;
 import com.simibubi.create.foundation.blockEntity.behaviour.filtering.FilteringBehaviour;
 import com.simibubi.create.foundation.blockEntity.behaviour.inventory.InvManipulationBehaviour;
@@ -112,6 +113,20 @@ public class FunnelBlockEntity extends SmartBlockEntity implements IHaveHovering
 			activateExtractingBeltFunnel();
 		if (mode == Mode.EXTRACT)
 			activateExtractor();
+
+		sleepIfIdle(mode);
+	}
+
+	private void sleepIfIdle(Mode mode) {
+		// Belt funnels follow the belt below, which does not notify them
+		if (!(getBlockState().getBlock() instanceof FunnelBlock))
+			return;
+		if (extractionCooldown > 0)
+			return;
+		if (mode == Mode.EXTRACT && !invVersionTracker.stillWaiting(invManipulation))
+			return;
+		if (mode == Mode.EXTRACT || mode == Mode.COLLECT || mode == Mode.PAUSED)
+			trySleep(new WakeConditions());
 	}
 
 	private void activateExtractor() {
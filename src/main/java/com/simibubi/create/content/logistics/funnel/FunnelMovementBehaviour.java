@@ -77,8 +77,8 @@ public class FunnelMovementBehaviour implements MovementBehaviour {
 		boolean upTo = context.blockEntityData.getBoolean("UpTo");
 		filterAmount = hasFilter ? filterAmount : 1;
 
-		ItemStack extract = ItemHelper.extract(context.contraption.getSharedInventory(),
-			s -> filter.test(world, s),
+		ItemStack extract = ItemHelper.extractMatching(context.contraption.getSharedInventory(),
+			v -> filter.test(world, v),
 			upTo ? ItemHelper.ExtractionCountMode.UPTO : ItemHelper.ExtractionCountMode.EXACTLY, filterAmount, false);
 
 		if (extract.isEmpty())
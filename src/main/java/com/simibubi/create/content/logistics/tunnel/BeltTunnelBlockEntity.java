@@ -191,6 +191,11 @@ public class BeltTunnelBlockEntity extends SmartBlockEntity implements ItemTrans
 		flapsToSend.clear();
 	}
 
+	@Override
+	protected boolean usesBatchedSync() {
+		return true;
+	}
+
 	@Override
 	public void addBehaviours(List<BlockEntityBehaviour> behaviours) {}
 
@@ -80,7 +80,7 @@ public class BrassTunnelBlockEntity extends BeltTunnelBlockEntity implements IHa
 	Couple<List<Pair<BlockPos, Direction>>> distributionTargets;
 
 	private boolean syncedOutputActive;
-	private Set<BrassTunnelBlockEntity> syncSet;
+	private BrassTunnelGroup group;
 
 	protected ScrollOptionBehaviour<SelectionMode> selectionMode;
 	private StorageProvider<ItemVariant> beltProvider;
@@ -107,7 +107,8 @@ public class BrassTunnelBlockEntity extends BeltTunnelBlockEntity implements IHa
 	public BrassTunnelBlockEntity(BlockEntityType<?> type, BlockPos pos, BlockState state) {
 		super(type, pos, state);
 		distributionTargets = Couple.create(ArrayList::new);
-		syncSet = new HashSet<>();
+		distributed = new IdentityHashMap<>();
+		full = new HashSet<>();
 		stackToDistribute = ItemStack.EMPTY;
 		stackEnteredFrom = null;
 		// fabric: beltCapability moved to cache, initialized on level set
@@ -161,9 +162,9 @@ public class BrassTunnelBlockEntity extends BeltTunnelBlockEntity implements IHa
 			distributionDistanceLeft = 0;
 			distributionDistanceRight = 0;
 
-			syncSet.clear();
 			List<Pair<BrassTunnelBlockEntity, Direction>> validOutputs = gatherValidOutputs();
-			if (selectionMode.get() == SelectionMode.SYNCHRONIZE) {
+			if (selectionMode.get() == SelectionMode.SYNCHRONIZE && group != null) {
+				List<BrassTunnelBlockEntity> syncSet = group.getMembers();
 				boolean allEmpty = true;
 				boolean allFull = true;
 				for (BrassTunnelBlockEntity be : syncSet) {
@@ -232,8 +233,8 @@ public class BrassTunnelBlockEntity extends BeltTunnelBlockEntity implements IHa
 	}
 
 	private static Random rand = new Random();
-	private static Map<Pair<BrassTunnelBlockEntity, Direction>, ItemStack> distributed = new IdentityHashMap<>();
-	private static Set<Pair<BrassTunnelBlockEntity, Direction>> full = new HashSet<>();
+	private final Map<Pair<BrassTunnelBlockEntity, Direction>, ItemStack> distributed;
+	private final Set<Pair<BrassTunnelBlockEntity, Direction>> full;
 
 	private void distribute(List<Pair<BrassTunnelBlockEntity, Direction>> validTargets) {
 		int amountTargets = validTargets.size();
@@ -512,30 +513,22 @@ public class BrassTunnelBlockEntity extends BeltTunnelBlockEntity implements IHa
 	}
 
 	private List<Pair<BrassTunnelBlockEntity, Direction>> gatherValidOutputs() {
-		List<Pair<BrassTunnelBlockEntity, Direction>> validOutputs = new ArrayList<>();
-		boolean synchronize = selectionMode.get() == SelectionMode.SYNCHRONIZE;
-		addValidOutputsOf(this, validOutputs);
-
-		for (boolean left : Iterate.trueAndFalse) {
-			BrassTunnelBlockEntity adjacent = this;
-			while (adjacent != null) {
-				if (!level.isLoaded(adjacent.getBlockPos()))
-					return null;
-				adjacent = adjacent.getAdjacent(left);
-				if (adjacent == null)
-					continue;
-				addValidOutputsOf(adjacent, validOutputs);
-			}
+		if (group == null || !group.isValid(level)) {
+			group = BrassTunnelGroup.of(this);
+			if (group == null)
+				return null;
+			for (BrassTunnelBlockEntity member : group.getMembers())
+				member.group = group;
 		}
 
+		boolean synchronize = selectionMode.get() == SelectionMode.SYNCHRONIZE;
 		if (!syncedOutputActive && synchronize)
 			return null;
-		return validOutputs;
+		return group.getOutputsFor(this);
 	}
 
-	private void addValidOutputsOf(BrassTunnelBlockEntity tunnelBE,
+	void addValidOutputsOf(BrassTunnelBlockEntity tunnelBE,
 		List<Pair<BrassTunnelBlockEntity, Direction>> validOutputs) {
-		syncSet.add(tunnelBE);
 		BeltBlockEntity below = BeltHelper.getSegmentBE(level, tunnelBE.worldPosition.below());
 		if (below == null)
 			return;
@@ -680,6 +673,8 @@ public class BrassTunnelBlockEntity extends BeltTunnelBlockEntity implements IHa
 	@Override
 	public void updateTunnelConnections() {
 		super.updateTunnelConnections();
+		if (group != null)
+			group.invalidate();
 		boolean connectivityChanged = false;
 		boolean nowConnectedLeft = determineIfConnected(true);
 		boolean nowConnectedRight = determineIfConnected(false);
@@ -0,0 +1,129 @@
+package com.simibubi.create.content.logistics.tunnel;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+import org.apache.commons.lang3.tuple.Pair;
+
+import com.simibubi.create.content.kinetics.belt.BeltBlockEntity;
+import com.simibubi.create.content.kinetics.belt.BeltHelper;
+
+import net.minecraft.core.Direction;
+import net.minecraft.world.level.Level;
+
+/**
+ * A row of connected brass tunnels, from left to right. Remembers the outputs
+ * each member distributes to, so that these are not looked up again for every
+ * item.
+ * <br>
+ * Groups are dropped when a member's connections change, or when a belt below
+ * stops or turns around. Blocks placed next to the belts do not notify the
+ * tunnels, so groups also expire after {@link #MAX_AGE} ticks.
+ */
+public class BrassTunnelGroup {
+
+	public static final int MAX_AGE = 20;
+
+	private final List<BrassTunnelBlockEntity> members;
+	private final Direction[] beltFacings;
+	private final boolean[] beltsMoving;
+	private final Map<BrassTunnelBlockEntity, List<Pair<BrassTunnelBlockEntity, Direction>>> outputs;
+	private final long createdAt;
+	private boolean invalidated;
+
+	private BrassTunnelGroup(List<BrassTunnelBlockEntity> members, long gameTime) {
+		this.members = members;
+		this.beltFacings = new Direction[members.size()];
+		this.beltsMoving = new boolean[members.size()];
+		this.outputs = new IdentityHashMap<>();
+		this.createdAt = gameTime;
+
+		for (int i = 0; i < members.size(); i++) {
+			BrassTunnelBlockEntity member = members.get(i);
+			BeltBlockEntity below = BeltHelper.getSegmentBE(member.getLevel(), member.getBlockPos()
+				.below());
+			beltFacings[i] = below == null ? null : below.getMovementFacing();
+			beltsMoving[i] = below != null && below.getSpeed() != 0;
+		}
+	}
+
+	/**
+	 * Collects the row the given tunnel is part of.
+	 *
+	 * @return the group, or null if part of the row is not loaded
+	 */
+	@Nullable
+	public static BrassTunnelGroup of(BrassTunnelBlockEntity tunnel) {
+		Level level = tunnel.getLevel();
+		BrassTunnelBlockEntity leftmost = tunnel;
+		while (true) {
+			if (!level.isLoaded(leftmost.getBlockPos()))
+				return null;
+			BrassTunnelBlockEntity adjacent = leftmost.getAdjacent(true);
+			if (adjacent == null || adjacent == tunnel)
+				break;
+			leftmost = adjacent;
+		}
+
+		List<BrassTunnelBlockEntity> members = new ArrayList<>();
+		BrassTunnelBlockEntity current = leftmost;
+		while (current != null && !members.contains(current)) {
+			if (!level.isLoaded(current.getBlockPos()))
+				return null;
+			members.add(current);
+			current = current.getAdjacent(false);
+		}
+
+		return new BrassTunnelGroup(members, level.getGameTime());
+	}
+
+	public boolean isValid(Level level) {
+		if (invalidated || level.getGameTime() - createdAt >= MAX_AGE)
+			return false;
+		for (int i = 0; i < members.size(); i++) {
+			BrassTunnelBlockEntity member = members.get(i);
+			if (member.isRemoved())
+				return false;
+			BeltBlockEntity below = BeltHelper.getSegmentBE(level, member.getBlockPos()
+				.below());
+			if (below == null) {
+				if (beltFacings[i] != null)
+					return false;
+				continue;
+			}
+			if (below.getMovementFacing() != beltFacings[i] || (below.getSpeed() != 0) != beltsMoving[i])
+				return false;
+		}
+		return true;
+	}
+
+	public void invalidate() {
+		invalidated = true;
+	}
+
+	public List<BrassTunnelBlockEntity> getMembers() {
+		return members;
+	}
+
+	/**
+	 * Outputs available to items entering the given member: its own first, then
+	 * those of the members to its left and to its right, nearest first.
+	 */
+	public List<Pair<BrassTunnelBlockEntity, Direction>> getOutputsFor(BrassTunnelBlockEntity source) {
+		return outputs.computeIfAbsent(source, $ -> {
+			List<Pair<BrassTunnelBlockEntity, Direction>> list = new ArrayList<>();
+			int index = members.indexOf(source);
+			source.addValidOutputsOf(source, list);
+			for (int i = index - 1; i >= 0; i--)
+				source.addValidOutputsOf(members.get(i), list);
+			for (int i = index + 1; i < members.size(); i++)
+				source.addValidOutputsOf(members.get(i), list);
+			return list;
+		});
+	}
+
+}
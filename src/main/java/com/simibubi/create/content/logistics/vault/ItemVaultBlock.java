@@ -167,8 +167,7 @@ public class ItemVaultBlock extends Block implements IWrenchable, IBE<ItemVaultB
 	public int getAnalogOutputSignal(BlockState pState, Level pLevel, BlockPos pPos) {
 		return getBlockEntityOptional(pLevel, pPos)
 			.filter(vte -> !Transaction.isOpen()) // fabric: hack fix for comparators updating when they shouldn't
-			.map(vte -> vte.getItemStorage(null))
-			.map(ItemHelper::calcRedstoneFromInventory)
+			.map(ItemVaultBlockEntity::getComparatorOutput)
 			.orElse(0);
 	}
 
@@ -11,6 +11,8 @@ import com.simibubi.create.foundation.blockEntity.IMultiBlockEntityContainer;
 import com.simibubi.create.foundation.blockEntity.SmartBlockEntity;
 import com.simibubi.create.foundation.blockEntity.behaviour.BlockEntityBehaviour;
 import com.simibubi.create.foundation.blockEntity.behaviour.inventory.VersionedInventoryWrapper;
+import com.simibubi.create.foundation.item.InventoryFullnessTracker;
+import com.simibubi.create.foundation.item.ItemHelper;
 import com.simibubi.create.infrastructure.config.AllConfigs;
 import io.github.fabricators_of_create.porting_lib.transfer.item.ItemStackHandler;
 import io.github.fabricators_of_create.porting_lib.transfer.item.ItemTransferable;
@@ -31,8 +33,10 @@ import net.minecraft.world.level.block.state.BlockState;
 
 public class ItemVaultBlockEntity extends SmartBlockEntity implements IMultiBlockEntityContainer.Inventory, ItemTransferable {
 	protected Storage<ItemVariant> itemCapability;
+	protected ItemVaultBlockEntity[] parts;
 
 	protected ItemStackHandler inventory;
+	protected InventoryFullnessTracker fullness;
 	protected BlockPos controller;
 	protected BlockPos lastKnownPos;
 	protected boolean updateConnectivity;
@@ -41,6 +45,7 @@ public class ItemVaultBlockEntity extends SmartBlockEntity implements IMultiBloc
 	protected Axis axis;
 
 	protected boolean recalculateComparatorsNextTick = false;
+	protected int lastComparatorOutput = -1;
 
 	public ItemVaultBlockEntity(BlockEntityType<?> type, BlockPos pos, BlockState state) {
 		super(type, pos, state);
@@ -49,9 +54,11 @@ public class ItemVaultBlockEntity extends SmartBlockEntity implements IMultiBloc
 			@Override
 			protected void onContentsChanged(int slot) {
 				super.onContentsChanged(slot);
+				fullness.markDirty(slot);
 				recalculateComparatorsNextTick = true;
 			}
 		};
+		fullness = new InventoryFullnessTracker(inventory);
 
 		itemCapability = null;
 		radius = 1;
@@ -79,6 +86,11 @@ public class ItemVaultBlockEntity extends SmartBlockEntity implements IMultiBloc
 
 		level.blockEntityChanged(controllerBE.worldPosition);
 
+		int comparatorOutput = controllerBE.getComparatorOutput();
+		if (comparatorOutput == controllerBE.lastComparatorOutput)
+			return;
+		controllerBE.lastComparatorOutput = comparatorOutput;
+
 		BlockPos pos = controllerBE.getBlockPos();
 		for (int y = 0; y < controllerBE.radius; y++) {
 			for (int z = 0; z < (controllerBE.axis == Axis.X ? controllerBE.radius : controllerBE.length); z++) {
@@ -89,6 +101,32 @@ public class ItemVaultBlockEntity extends SmartBlockEntity implements IMultiBloc
 		}
 	}
 
+	/**
+	 * Comparator output of the whole vault, from the running totals of its parts
+	 */
+	public int getComparatorOutput() {
+		ItemVaultBlockEntity controllerBE = getControllerBE();
+		if (controllerBE == null)
+			return 0;
+		controllerBE.initCapability();
+		if (controllerBE.parts == null)
+			return 0;
+
+		double fill = 0;
+		int occupiedSlots = 0;
+		int totalSlots = 0;
+		for (ItemVaultBlockEntity part : controllerBE.parts) {
+			if (part == null) {
+				totalSlots++;
+				continue;
+			}
+			fill += part.fullness.getFill();
+			occupiedSlots += part.fullness.getOccupiedSlots();
+			totalSlots += part.fullness.getSlots();
+		}
+		return ItemHelper.calcRedstoneFromFill(fill, occupiedSlots, totalSlots);
+	}
+
 	@Override
 	public void tick() {
 		super.tick();
@@ -194,6 +232,7 @@ public class ItemVaultBlockEntity extends SmartBlockEntity implements IMultiBloc
 
 		if (!clientPacket) {
 			inventory.deserializeNBT(compound.getCompound("Inventory"));
+			fullness.markAllDirty();
 			return;
 		}
 
@@ -254,6 +293,7 @@ public class ItemVaultBlockEntity extends SmartBlockEntity implements IMultiBloc
 
 		boolean alongZ = ItemVaultBlock.getVaultBlockAxis(getBlockState()) == Axis.Z;
 		ItemStackHandler[] invs = new ItemStackHandler[length * radius * radius];
+		ItemVaultBlockEntity[] vaults = new ItemVaultBlockEntity[invs.length];
 		for (int yOffset = 0; yOffset < length; yOffset++) {
 			for (int xOffset = 0; xOffset < radius; xOffset++) {
 				for (int zOffset = 0; zOffset < radius; zOffset++) {
@@ -261,8 +301,9 @@ public class ItemVaultBlockEntity extends SmartBlockEntity implements IMultiBloc
 						: worldPosition.offset(yOffset, xOffset, zOffset);
 					ItemVaultBlockEntity vaultAt =
 						ConnectivityHandler.partAt(AllBlockEntityTypes.ITEM_VAULT.get(), level, vaultPos);
-					invs[yOffset * radius * radius + xOffset * radius + zOffset] =
-						vaultAt != null ? vaultAt.inventory : new ItemStackHandler();
+					int index = yOffset * radius * radius + xOffset * radius + zOffset;
+					invs[index] = vaultAt != null ? vaultAt.inventory : new ItemStackHandler();
+					vaults[index] = vaultAt;
 				}
 			}
 		}
@@ -270,6 +311,7 @@ public class ItemVaultBlockEntity extends SmartBlockEntity implements IMultiBloc
 		Storage<ItemVariant> combinedInvWrapper = new CombinedStorage<>(List.of(invs));
 		combinedInvWrapper = new VersionedInventoryWrapper(combinedInvWrapper);
 		itemCapability = combinedInvWrapper;
+		parts = vaults;
 	}
 
 	public static int getMaxLength(int radius) {
@@ -181,6 +181,11 @@ public class BasinBlockEntity extends SmartBlockEntity implements IHaveGoggleInf
 		return providers == null ? null : providers.second().get(facing.getOpposite());
 	}
 
+	@Override
+	protected boolean usesBatchedSync() {
+		return true;
+	}
+
 	@Override
 	public void addBehaviours(List<BlockEntityBehaviour> behaviours) {
 		behaviours.add(new DirectBeltInputBehaviour(this));
@@ -43,6 +43,7 @@ public class GlobalRailwayManager {
 	public Map<UUID, SignalEdgeGroup> signalEdgeGroups;
 	public Map<UUID, Train> trains;
 	public TrackGraphSync sync;
+	public RailwayTelemetry telemetry;
 
 	private List<Train> movingTrains;
 	private List<Train> waitingTrains;
@@ -99,6 +100,7 @@ public class GlobalRailwayManager {
 		signalEdgeGroups = new HashMap<>();
 		trains = new HashMap<>();
 		sync = new TrackGraphSync();
+		telemetry = new RailwayTelemetry();
 		movingTrains = new LinkedList<>();
 		waitingTrains = new LinkedList<>();
 		GlobalTrainDisplayData.statusByDestination.clear();
@@ -120,6 +122,7 @@ public class GlobalRailwayManager {
 			return;
 		movingTrains.remove(removed);
 		waitingTrains.remove(removed);
+		telemetry.removeTrain(id);
 	}
 
 	//
@@ -152,6 +155,7 @@ public class GlobalRailwayManager {
 
 	public void removeGraph(TrackGraph graph) {
 		trackNetworks.remove(graph.id);
+		telemetry.removeGraph(graph.id);
 		markTracksDirty();
 	}
 
@@ -193,9 +197,13 @@ public class GlobalRailwayManager {
 			group.reserved = null;
 		});
 
+		telemetry.tick();
 		trackNetworks.forEach((id, graph) -> {
 			graph.tickPoints(true);
+			long start = System.nanoTime();
 			graph.resolveIntersectingEdgeGroups(level);
+			telemetry.get(graph)
+				.recordIntersectionResolve(System.nanoTime() - start);
 		});
 
 		tickTrains(level);
@@ -221,9 +229,9 @@ public class GlobalRailwayManager {
 		for (Train train : movingTrains)
 			train.earlyTick(level);
 		for (Train train : waitingTrains)
-			train.tick(level);
+			tickTrain(level, train);
 		for (Train train : movingTrains)
-			train.tick(level);
+			tickTrain(level, train);
 
 		for (Iterator<Train> iterator = waitingTrains.iterator(); iterator.hasNext();) {
 			Train train = iterator.next();
@@ -231,6 +239,7 @@ public class GlobalRailwayManager {
 			if (train.invalid) {
 				iterator.remove();
 				trains.remove(train.id);
+				telemetry.removeTrain(train.id);
 				AllPackets.getChannel().sendToClientsInCurrentServer(new TrainPacket(train, false));
 				continue;
 			}
@@ -247,6 +256,7 @@ public class GlobalRailwayManager {
 			if (train.invalid) {
 				iterator.remove();
 				trains.remove(train.id);
+				telemetry.removeTrain(train.id);
 				AllPackets.getChannel().sendToClientsInCurrentServer(new TrainPacket(train, false));
 				continue;
 			}
@@ -259,6 +269,13 @@ public class GlobalRailwayManager {
 
 	}
 
+	private void tickTrain(Level level, Train train) {
+		long start = System.nanoTime();
+		train.tick(level);
+		telemetry.get(train)
+			.recordTick(System.nanoTime() - start, train.navigation.waitingForSignal != null);
+	}
+
 	public void tickSignalOverlay() {
 		if (!isTrackGraphDebugActive())
 			for (TrackGraph trackGraph : trackNetworks.values())
@@ -0,0 +1,191 @@
+package com.simibubi.create.content.trains;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+import com.simibubi.create.content.trains.entity.Train;
+import com.simibubi.create.content.trains.graph.TrackGraph;
+import com.simibubi.create.infrastructure.profiler.ProfileReport;
+
+import net.minecraft.network.chat.Component;
+
+/**
+ * Running totals of what trains and track graphs cost the server, counted since
+ * the railway manager was loaded or the telemetry was last reset. Unlike the
+ * subsystem profiler this is always collected, so it only counts what is cheap
+ * to count. Trains and graphs are dropped once they are removed.
+ */
+public class RailwayTelemetry {
+
+	private final Map<UUID, TrainStats> trains = new HashMap<>();
+	private final Map<UUID, GraphStats> graphs = new HashMap<>();
+	private long startedAt = System.currentTimeMillis();
+	private int ticks;
+
+	public TrainStats get(Train train) {
+		TrainStats stats = trains.computeIfAbsent(train.id, $ -> new TrainStats());
+		// Renaming replaces the component, so it only has to be resolved again then
+		if (stats.nameComponent != train.name) {
+			stats.nameComponent = train.name;
+			stats.name = train.name.getString();
+		}
+		return stats;
+	}
+
+	public GraphStats get(TrackGraph graph) {
+		return graphs.computeIfAbsent(graph.id, $ -> new GraphStats());
+	}
+
+	public void removeTrain(UUID id) {
+		trains.remove(id);
+	}
+
+	public void removeGraph(UUID id) {
+		graphs.remove(id);
+	}
+
+	public void tick() {
+		ticks++;
+	}
+
+	public void reset() {
+		trains.clear();
+		graphs.clear();
+		startedAt = System.currentTimeMillis();
+		ticks = 0;
+	}
+
+	public int getTicks() {
+		return Math.max(ticks, 1);
+	}
+
+	/**
+	 * @return the trains that were ticked, most expensive first
+	 */
+	public List<Map.Entry<UUID, TrainStats>> getTrains() {
+		List<Map.Entry<UUID, TrainStats>> list = new ArrayList<>(trains.entrySet());
+		list.sort(Comparator.comparingLong((Map.Entry<UUID, TrainStats> e) -> e.getValue().tickNanos)
+			.reversed());
+		return list;
+	}
+
+	public GraphStats getGraph(UUID id) {
+		return graphs.getOrDefault(id, new GraphStats());
+	}
+
+	public double msPerTick(long nanos) {
+		return nanos / 1_000_000d / getTicks();
+	}
+
+	/**
+	 * Writes one CSV file for trains and one for the given graphs to the game's
+	 * debug directory.
+	 *
+	 * @return the written files
+	 */
+	public List<Path> exportCsv(Collection<TrackGraph> trackNetworks) throws IOException {
+		String name = "create-railways-" + new SimpleDateFormat("yyyy-MM-dd_HH.mm.ss").format(new Date(startedAt));
+		Files.createDirectories(ProfileReport.EXPORT_DIRECTORY);
+
+		Path trainsPath = ProfileReport.EXPORT_DIRECTORY.resolve(name + "-trains.csv");
+		try (Writer writer = Files.newBufferedWriter(trainsPath)) {
+			writer.write("id,name,ticks,tick_ms_per_tick,searches,search_ms_total,search_ms_max,"
+				+ "edges_visited,max_frontier,signal_waits,ticks_waiting_for_signal,collision_checks\n");
+			for (Map.Entry<UUID, TrainStats> entry : getTrains()) {
+				TrainStats stats = entry.getValue();
+				writer.write(String.format(Locale.ROOT, "%s,%s,%d,%.4f,%d,%.3f,%.3f,%d,%d,%d,%d,%d\n", entry.getKey(),
+					escape(stats.name), stats.ticks, msPerTick(stats.tickNanos), stats.searches,
+					stats.searchNanos / 1_000_000d, stats.maxSearchNanos / 1_000_000d, stats.edgesVisited,
+					stats.maxFrontier, stats.signalWaits, stats.ticksWaitingForSignal, stats.collisionChecks));
+			}
+		}
+
+		Path graphsPath = ProfileReport.EXPORT_DIRECTORY.resolve(name + "-graphs.csv");
+		try (Writer writer = Files.newBufferedWriter(graphsPath)) {
+			writer.write("id,nodes,edges,intersection_resolves,intersection_ms_per_tick,intersection_ms_max\n");
+			for (TrackGraph graph : trackNetworks) {
+				GraphStats stats = getGraph(graph.id);
+				writer.write(String.format(Locale.ROOT, "%s,%d,%d,%d,%.4f,%.3f\n", graph.id, graph.getNodes()
+					.size(), graph.getEdgeCount(), stats.intersectionResolves, msPerTick(stats.intersectionNanos),
+					stats.maxIntersectionNanos / 1_000_000d));
+			}
+		}
+
+		return List.of(trainsPath, graphsPath);
+	}
+
+	private static String escape(String value) {
+		if (value.indexOf(',') == -1 && value.indexOf('"') == -1)
+			return value;
+		return "\"" + value.replace("\"", "\"\"") + "\"";
+	}
+
+	/**
+	 * Tick times include the path searches and collision checks done during the
+	 * tick.
+	 */
+	public static class TrainStats {
+
+		public String name = "";
+		public int ticks;
+		public long tickNanos;
+		public int searches;
+		public long searchNanos;
+		public long maxSearchNanos;
+		public long edgesVisited;
+		public int maxFrontier;
+		public int signalWaits;
+		public int ticksWaitingForSignal;
+		public int collisionChecks;
+
+		private Component nameComponent;
+		private boolean waitingForSignal;
+
+		public void recordTick(long nanos, boolean waiting) {
+			ticks++;
+			tickNanos += nanos;
+			if (waiting) {
+				ticksWaitingForSignal++;
+				if (!waitingForSignal)
+					signalWaits++;
+			}
+			waitingForSignal = waiting;
+		}
+
+		public void recordSearch(long nanos, int visited, int frontier) {
+			searches++;
+			searchNanos += nanos;
+			maxSearchNanos = Math.max(maxSearchNanos, nanos);
+			edgesVisited += visited;
+			maxFrontier = Math.max(maxFrontier, frontier);
+		}
+
+	}
+
+	public static class GraphStats {
+
+		public int intersectionResolves;
+		public long intersectionNanos;
+		public long maxIntersectionNanos;
+
+		public void recordIntersectionResolve(long nanos) {
+			intersectionResolves++;
+			intersectionNanos += nanos;
+			maxIntersectionNanos = Math.max(maxIntersectionNanos, nanos);
+		}
+
+	}
+
+}
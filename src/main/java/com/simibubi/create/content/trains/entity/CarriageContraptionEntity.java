@@ -206,6 +206,7 @@ public class CarriageContraptionEntity extends OrientedContraptionEntity {
 		carriage.forEachPresentEntity(cce -> {
 			cce.contraption.getBlocks()
 				.put(localPos, newInfo);
+			cce.contraption.invalidateEncodedBlocks();
 			AllPackets.getChannel().sendToClientsTracking(
 				new ContraptionBlockChangedPacket(cce.getId(), localPos, newInfo.state), cce);
 		});
@@ -64,6 +64,9 @@ public class Navigation {
 	public double distanceToSignal;
 	public int ticksWaitingForSignal;
 
+	private int searchedEdges;
+	private int peakFrontier;
+
 	public Navigation(Train train) {
 		this.train = train;
 		currentPath = new ArrayList<>();
@@ -550,6 +553,15 @@ public class Navigation {
 	}
 
 	public void search(double maxDistance, double maxCost, boolean forward, ArrayList<GlobalStation> destinations, StationTest stationTest) {
+		long start = System.nanoTime();
+		searchedEdges = 0;
+		peakFrontier = 0;
+		doSearch(maxDistance, maxCost, forward, destinations, stationTest);
+		Create.RAILWAYS.telemetry.get(train)
+			.recordSearch(System.nanoTime() - start, searchedEdges, peakFrontier);
+	}
+
+	private void doSearch(double maxDistance, double maxCost, boolean forward, ArrayList<GlobalStation> destinations, StationTest stationTest) {
 		TrackGraph graph = train.graph;
 		if (graph == null)
 			return;
@@ -663,9 +675,11 @@ public class Navigation {
 		frontier.add(new FrontierEntry(distanceToNode2, initialPenalty, initialNode1, initialNode2, initialEdge));
 
 		while (!frontier.isEmpty()) {
+			peakFrontier = Math.max(peakFrontier, frontier.size());
 			FrontierEntry entry = frontier.poll();
 			if (!visited.add(entry.edge))
 				continue;
+			searchedEdges++;
 
 			double distance = entry.distance;
 			int penalty = entry.penalty;
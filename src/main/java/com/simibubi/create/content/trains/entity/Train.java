@@ -382,6 +382,7 @@ public class Train {
 
 			if (index == 0) {
 				distance = actualDistance;
+				Create.RAILWAYS.telemetry.get(this).collisionChecks++;
 				collideWithOtherTrains(level, carriage);
 				backwardsDriver = null;
 				if (graph == null)
@@ -117,6 +117,14 @@ public class TrackGraph {
 
 	//
 
+	public int getEdgeCount() {
+		int connections = 0;
+		for (Map<TrackNode, TrackEdge> map : connectionsByNode.values())
+			connections += map.size();
+		// every edge is stored once in each direction
+		return connections / 2;
+	}
+
 	public Set<TrackNodeLocation> getNodes() {
 		return nodes.keySet();
 	}
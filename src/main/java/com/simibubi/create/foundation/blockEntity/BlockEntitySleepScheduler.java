@@ -0,0 +1,108 @@
+package com.simibubi.create.foundation.blockEntity;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import com.simibubi.create.foundation.mixin.accessor.LevelChunkAccessor;
+import com.simibubi.create.foundation.utility.WorldAttached;
+
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.LevelAccessor;
+import net.minecraft.world.level.block.entity.BlockEntityType;
+
+/**
+ * Takes idle block entities out of the level's ticker list and puts them back
+ * once one of their {@link WakeConditions} is met. Server side only.
+ */
+public class BlockEntitySleepScheduler {
+
+	private static final WorldAttached<BlockEntitySleepScheduler> SCHEDULERS =
+		new WorldAttached<>($ -> new BlockEntitySleepScheduler());
+
+	private final Map<SmartBlockEntity, Sleeper> sleeping = new Reference2ObjectOpenHashMap<>();
+	private final Object2IntMap<BlockEntityType<?>> awakeThisTick = new Object2IntOpenHashMap<>();
+	private Object2IntMap<BlockEntityType<?>> awake = new Object2IntOpenHashMap<>();
+
+	public static BlockEntitySleepScheduler get(LevelAccessor level) {
+		return SCHEDULERS.get(level);
+	}
+
+	public static void tick(Level level) {
+		get(level).tickSleepers(level.getGameTime());
+	}
+
+	void sleep(SmartBlockEntity be, WakeConditions conditions) {
+		Level level = be.getLevel();
+		int timer = conditions.getTimer();
+		sleeping.put(be, new Sleeper(conditions, timer < 0 ? Long.MAX_VALUE : level.getGameTime() + timer));
+		((LevelChunkAccessor) level.getChunkAt(be.getBlockPos()))
+			.create$callRemoveBlockEntityTicker(be.getBlockPos());
+	}
+
+	void wake(SmartBlockEntity be) {
+		sleeping.remove(be);
+		if (be.isRemoved())
+			return;
+		((LevelChunkAccessor) be.getLevel()
+			.getChunkAt(be.getBlockPos())).create$callUpdateBlockEntityTicker(be);
+	}
+
+	/**
+	 * Drops a block entity the level started ticking again on its own, which
+	 * happens when its block state is replaced.
+	 */
+	void forget(SmartBlockEntity be) {
+		sleeping.remove(be);
+	}
+
+	void countAwake(SmartBlockEntity be) {
+		awakeThisTick.mergeInt(be.getType(), 1, Integer::sum);
+	}
+
+	private void tickSleepers(long gameTime) {
+		List<SmartBlockEntity> toWake = new ArrayList<>();
+		for (Iterator<Map.Entry<SmartBlockEntity, Sleeper>> iterator = sleeping.entrySet()
+			.iterator(); iterator.hasNext();) {
+			Map.Entry<SmartBlockEntity, Sleeper> entry = iterator.next();
+			if (entry.getKey()
+				.isRemoved()) {
+				iterator.remove();
+				continue;
+			}
+			Sleeper sleeper = entry.getValue();
+			if (gameTime >= sleeper.wakeTime || sleeper.conditions.inventoryChanged())
+				toWake.add(entry.getKey());
+		}
+		toWake.forEach(SmartBlockEntity::wake);
+
+		awake = new Object2IntOpenHashMap<>(awakeThisTick);
+		awakeThisTick.clear();
+	}
+
+	/**
+	 * @return the number of sleep-capable block entities per type that ticked
+	 *         during the last tick
+	 */
+	public Object2IntMap<BlockEntityType<?>> getAwakeCounts() {
+		return awake;
+	}
+
+	/**
+	 * @return the number of sleeping block entities per type
+	 */
+	public Object2IntMap<BlockEntityType<?>> getSleepingCounts() {
+		Object2IntMap<BlockEntityType<?>> counts = new Object2IntOpenHashMap<>();
+		for (SmartBlockEntity be : sleeping.keySet())
+			counts.mergeInt(be.getType(), 1, Integer::sum);
+		return counts;
+	}
+
+	private record Sleeper(WakeConditions conditions, long wakeTime) {
+	}
+
+}
@@ -0,0 +1,148 @@
+package com.simibubi.create.foundation.blockEntity;
+
+import java.util.Map;
+import java.util.Set;
+
+import com.simibubi.create.AllPackets;
+import com.simibubi.create.foundation.blockEntity.behaviour.BlockEntityBehaviour;
+import com.simibubi.create.foundation.utility.WorldAttached;
+import com.simibubi.create.infrastructure.profiler.NetworkProfiler;
+
+import io.netty.buffer.Unpooled;
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceArraySet;
+import net.fabricmc.fabric.api.networking.v1.PlayerLookup;
+import net.minecraft.core.BlockPos;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.network.protocol.game.ClientboundBlockEntityDataPacket;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.LevelAccessor;
+
+/**
+ * Collects the syncs requested by block entities that
+ * {@link SyncedBlockEntity#usesBatchedSync() opt in}, and sends them once at
+ * the end of the level tick, bundled into packets per chunk. However often
+ * a block entity asks to be synced during a tick, its data is only written
+ * once.
+ * <br>
+ * If only behaviours with a {@link BlockEntityBehaviour#getSyncKey() sync key}
+ * changed, only their data is sent. Each tag is written once, straight into
+ * its bundle, which is split before it reaches the custom payload limit. Data
+ * too large to share a bundle is sent on its own, with vanilla's update packet
+ * if it is full or would not fit a custom payload either. Server side only.
+ */
+public class BlockEntitySyncBatcher {
+
+	// Custom payloads are limited to 1 MiB, bundles are split well below that
+	private static final int MAX_BUNDLE_BYTES = 512 * 1024;
+	// Leaves room for the channel and packet ids
+	private static final int MAX_PAYLOAD_BYTES = 1024 * 1024 - 1024;
+
+	private static final WorldAttached<BlockEntitySyncBatcher> BATCHERS =
+		new WorldAttached<>($ -> new BlockEntitySyncBatcher());
+
+	private final Map<SyncedBlockEntity, Pending> pending = new Reference2ObjectLinkedOpenHashMap<>();
+
+	public static BlockEntitySyncBatcher get(LevelAccessor level) {
+		return BATCHERS.get(level);
+	}
+
+	static void markDirty(SyncedBlockEntity be) {
+		get(be.getLevel()).pending.computeIfAbsent(be, $ -> new Pending()).full = true;
+	}
+
+	static void markDirty(SmartBlockEntity be, BlockEntityBehaviour behaviour) {
+		Pending entry = get(be.getLevel()).pending.computeIfAbsent(be, $ -> new Pending());
+		if (!entry.full)
+			entry.behaviours.add(behaviour);
+	}
+
+	public static void tick(Level level) {
+		if (level instanceof ServerLevel serverLevel)
+			get(level).flush(serverLevel);
+	}
+
+	private void flush(ServerLevel level) {
+		if (pending.isEmpty())
+			return;
+
+		Long2ObjectLinkedOpenHashMap<Bundle> byChunk = new Long2ObjectLinkedOpenHashMap<>();
+		pending.forEach((be, entry) -> {
+			if (be.isRemoved() || be.getLevel() != level)
+				return;
+			BlockPos pos = be.getBlockPos();
+			CompoundTag tag = entry.full ? be.getUpdateTag() : ((SmartBlockEntity) be).writePartialClient(entry.behaviours);
+			Bundle bundle = byChunk.computeIfAbsent(ChunkPos.asLong(pos), $ -> new Bundle(pos));
+
+			int start = bundle.buffer.writerIndex();
+			BlockEntitySyncBundlePacket.writeEntry(bundle.buffer, pos, entry.full, tag);
+			int size = bundle.buffer.writerIndex() - start;
+			if (NetworkProfiler.isSampling())
+				NetworkProfiler.recordBlockEntitySync(be, size);
+
+			if (size > MAX_BUNDLE_BYTES) {
+				if (!entry.full && size <= MAX_PAYLOAD_BYTES) {
+					Bundle alone = new Bundle(pos);
+					alone.buffer.writeBytes(bundle.buffer, start, size);
+					alone.count++;
+					alone.send(level);
+				} else {
+					// Vanilla's packet may be larger than a custom payload, but only takes full data
+					CompoundTag fullTag = entry.full ? tag : be.getUpdateTag();
+					ClientboundBlockEntityDataPacket packet = ClientboundBlockEntityDataPacket.create(be, $ -> fullTag);
+					PlayerLookup.tracking(level, pos)
+						.forEach(player -> player.connection.send(packet));
+				}
+				bundle.buffer.writerIndex(start);
+				return;
+			}
+
+			if (bundle.buffer.writerIndex() > MAX_BUNDLE_BYTES) {
+				// Carry the entry over into the next bundle
+				FriendlyByteBuf next = new FriendlyByteBuf(Unpooled.buffer());
+				next.writeBytes(bundle.buffer, start, size);
+				bundle.buffer.writerIndex(start);
+				bundle.send(level);
+				bundle.buffer = next;
+			}
+			bundle.count++;
+		});
+		pending.clear();
+
+		byChunk.values()
+			.forEach(bundle -> bundle.send(level));
+	}
+
+	private static class Bundle {
+
+		final BlockPos pos;
+		FriendlyByteBuf buffer = new FriendlyByteBuf(Unpooled.buffer());
+		int count;
+
+		Bundle(BlockPos pos) {
+			this.pos = pos;
+		}
+
+		void send(ServerLevel level) {
+			if (count == 0)
+				return;
+			AllPackets.getChannel()
+				.sendToClientsTracking(new BlockEntitySyncBundlePacket(count, buffer), level, pos);
+			buffer = new FriendlyByteBuf(Unpooled.buffer());
+			count = 0;
+		}
+
+	}
+
+	private static class Pending {
+
+		boolean full;
+		final Set<BlockEntityBehaviour> behaviours = new ReferenceArraySet<>(2);
+
+	}
+
+}
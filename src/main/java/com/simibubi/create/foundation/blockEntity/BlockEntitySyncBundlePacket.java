@@ -0,0 +1,72 @@
+package com.simibubi.create.foundation.blockEntity;
+
+import java.util.List;
+
+import com.simibubi.create.foundation.networking.SimplePacketBase;
+
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.multiplayer.ClientLevel;
+import net.minecraft.core.BlockPos;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.world.level.block.entity.BlockEntity;
+
+/**
+ * The syncs of one chunk's block entities during one tick, see
+ * {@link BlockEntitySyncBatcher}. The server writes entries straight into the
+ * packet's buffer as they are collected, so each tag is only written once.
+ */
+public class BlockEntitySyncBundlePacket extends SimplePacketBase {
+
+	private List<Entry> entries;
+	private int count;
+	private FriendlyByteBuf written;
+
+	/**
+	 * @param written {@code count} entries, each written with {@link #writeEntry}
+	 */
+	public BlockEntitySyncBundlePacket(int count, FriendlyByteBuf written) {
+		this.count = count;
+		this.written = written;
+	}
+
+	public BlockEntitySyncBundlePacket(FriendlyByteBuf buffer) {
+		entries = buffer.readList(buf -> new Entry(buf.readBlockPos(), buf.readBoolean(), buf.readNbt()));
+	}
+
+	public static void writeEntry(FriendlyByteBuf buffer, BlockPos pos, boolean full, CompoundTag tag) {
+		buffer.writeBlockPos(pos);
+		buffer.writeBoolean(full);
+		buffer.writeNbt(tag);
+	}
+
+	@Override
+	public void write(FriendlyByteBuf buffer) {
+		buffer.writeVarInt(count);
+		buffer.writeBytes(written, written.readerIndex(), written.readableBytes());
+	}
+
+	@Override
+	public boolean handle(Context context) {
+		context.enqueueWork(() -> {
+			ClientLevel level = Minecraft.getInstance().level;
+			if (level == null)
+				return;
+
+			for (Entry entry : entries) {
+				if (entry.tag() == null)
+					continue;
+				BlockEntity be = level.getBlockEntity(entry.pos());
+				if (entry.full() && be instanceof SyncedBlockEntity synced)
+					synced.readClient(entry.tag());
+				else if (!entry.full() && be instanceof SmartBlockEntity smart)
+					smart.readPartialClient(entry.tag());
+			}
+		});
+		return true;
+	}
+
+	public record Entry(BlockPos pos, boolean full, CompoundTag tag) {
+	}
+
+}
@@ -1,8 +1,10 @@
 package com.simibubi.create.foundation.blockEntity;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashMap;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Consumer;
@@ -16,11 +18,13 @@ import com.simibubi.create.foundation.blockEntity.behaviour.BehaviourType;
 import com.simibubi.create.foundation.blockEntity.behaviour.BlockEntityBehaviour;
 import com.simibubi.create.foundation.utility.IInteractionChecker;
 import com.simibubi.create.foundation.utility.IPartialSafeNBT;
+import com.simibubi.create.infrastructure.profiler.NetworkProfiler;
 
 import io.github.fabricators_of_create.porting_lib.block.ChunkUnloadListeningBlockEntity;
 import net.minecraft.core.BlockPos;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.level.block.entity.BlockEntityType;
 import net.minecraft.world.level.block.state.BlockState;
@@ -28,12 +32,20 @@ import net.minecraft.world.level.block.state.BlockState;
 public abstract class SmartBlockEntity extends CachedRenderBBBlockEntity
 	implements IPartialSafeNBT, IInteractionChecker, ChunkUnloadListeningBlockEntity, ISpecialBlockEntityItemRequirement {
 
-	private final Map<BehaviourType<?>, BlockEntityBehaviour> behaviours = new HashMap<>();
+	private static final BlockEntityBehaviour[] NO_BEHAVIOURS = new BlockEntityBehaviour[0];
+
+	// Indexed by BehaviourType#getId, with the same behaviours in attachment order
+	private BlockEntityBehaviour[] behavioursById = NO_BEHAVIOURS;
+	private final List<BlockEntityBehaviour> behaviours = new ArrayList<>();
+	private final Collection<BlockEntityBehaviour> behavioursView = Collections.unmodifiableList(behaviours);
+	private BlockEntityBehaviour[] tickingBehaviours = NO_BEHAVIOURS;
 	private boolean initialized = false;
 	private boolean firstNbtRead = true;
 	protected int lazyTickRate;
 	protected int lazyTickCounter;
 	private boolean chunkUnloaded;
+	private boolean asleep;
+	private boolean sleepCapable;
 
 	// Used for simulating this BE in a client-only setting
 	private boolean virtualMode;
@@ -45,7 +57,8 @@ public abstract class SmartBlockEntity extends CachedRenderBBBlockEntity
 
 		ArrayList<BlockEntityBehaviour> list = new ArrayList<>();
 		addBehaviours(list);
-		list.forEach(b -> behaviours.put(b.getType(), b));
+		list.forEach(this::putBehaviour);
+		updateTickingBehaviours();
 	}
 
 	public abstract void addBehaviours(List<BlockEntityBehaviour> behaviours);
@@ -59,7 +72,7 @@ public abstract class SmartBlockEntity extends CachedRenderBBBlockEntity
 	public void initialize() {
 		if (firstNbtRead) {
 			firstNbtRead = false;
-			BlockEntityBehaviourEvent.EVENT.invoker().manageBehaviors(new BlockEntityBehaviourEvent(this, behaviours));
+			fireBehaviourEvent();
 		}
 
 		forEachBehaviour(BlockEntityBehaviour::initialize);
@@ -72,16 +85,107 @@ public abstract class SmartBlockEntity extends CachedRenderBBBlockEntity
 			initialized = true;
 		}
 
+		if (asleep) {
+			asleep = false;
+			BlockEntitySleepScheduler.get(level)
+				.forget(this);
+		}
+		if (sleepCapable && !level.isClientSide)
+			BlockEntitySleepScheduler.get(level)
+				.countAwake(this);
+
 		if (lazyTickCounter-- <= 0) {
 			lazyTickCounter = lazyTickRate;
 			lazyTick();
 		}
 
-		forEachBehaviour(BlockEntityBehaviour::tick);
+		for (BlockEntityBehaviour behaviour : tickingBehaviours)
+			behaviour.tick();
 	}
 
 	public void lazyTick() {}
 
+	/**
+	 * Stops ticking this block entity on the server until it is woken by
+	 * {@link #wake()}, a block state change or one of the given conditions.
+	 * Behaviours that are still busy can veto, the others may add conditions of
+	 * their own.
+	 *
+	 * @return whether the block entity fell asleep
+	 */
+	public boolean trySleep(WakeConditions conditions) {
+		if (level == null || level.isClientSide || virtualMode || asleep || isRemoved())
+			return false;
+		sleepCapable = true;
+		for (BlockEntityBehaviour behaviour : getAllBehaviours())
+			if (!behaviour.canSleep())
+				return false;
+		forEachBehaviour(b -> b.addWakeConditions(conditions));
+		asleep = true;
+		BlockEntitySleepScheduler.get(level)
+			.sleep(this, conditions);
+		return true;
+	}
+
+	/**
+	 * Resumes ticking if asleep. Call this from events the block entity reacts
+	 * to, such as neighbour updates or redstone changes.
+	 */
+	public void wake() {
+		if (!asleep)
+			return;
+		asleep = false;
+		BlockEntitySleepScheduler.get(level)
+			.wake(this);
+	}
+
+	public boolean isAsleep() {
+		return asleep;
+	}
+
+	/**
+	 * Syncs a change to one behaviour. Block entities that
+	 * {@link #usesBatchedSync() batch their syncs} send only that behaviour's
+	 * data if it has a {@link BlockEntityBehaviour#getSyncKey() sync key},
+	 * everything else sends all its data.
+	 */
+	public void sendBehaviourData(BlockEntityBehaviour behaviour) {
+		if (!(level instanceof ServerLevel) || !usesBatchedSync() || !hasUniqueSyncKey(behaviour)) {
+			sendData();
+			return;
+		}
+		NetworkProfiler.recordSendData(this);
+		BlockEntitySyncBatcher.markDirty(this, behaviour);
+	}
+
+	private boolean hasUniqueSyncKey(BlockEntityBehaviour behaviour) {
+		String key = behaviour.getSyncKey();
+		if (key == null || getBehaviour(behaviour.getType()) != behaviour)
+			return false;
+		for (BlockEntityBehaviour other : getAllBehaviours())
+			if (other != behaviour && key.equals(other.getSyncKey()))
+				return false;
+		return true;
+	}
+
+	CompoundTag writePartialClient(Collection<BlockEntityBehaviour> changed) {
+		CompoundTag tag = new CompoundTag();
+		for (BlockEntityBehaviour behaviour : changed) {
+			CompoundTag behaviourTag = new CompoundTag();
+			behaviour.write(behaviourTag, true);
+			tag.put(behaviour.getSyncKey(), behaviourTag);
+		}
+		return tag;
+	}
+
+	void readPartialClient(CompoundTag tag) {
+		for (BlockEntityBehaviour behaviour : getAllBehaviours()) {
+			String key = behaviour.getSyncKey();
+			if (key != null && tag.contains(key))
+				behaviour.read(tag.getCompound(key), true);
+		}
+	}
+
 	/**
 	 * Hook only these in future subclasses of STE
 	 */
@@ -107,8 +211,8 @@ public abstract class SmartBlockEntity extends CachedRenderBBBlockEntity
 			firstNbtRead = false;
 			ArrayList<BlockEntityBehaviour> list = new ArrayList<>();
 			addBehavioursDeferred(list);
-			list.forEach(b -> behaviours.put(b.getType(), b));
-			BlockEntityBehaviourEvent.EVENT.invoker().manageBehaviors(new BlockEntityBehaviourEvent(this, behaviours));
+			list.forEach(this::putBehaviour);
+			fireBehaviourEvent();
 		}
 		super.load(tag);
 		forEachBehaviour(tb -> tb.read(tag, clientPacket));
@@ -170,32 +274,71 @@ public abstract class SmartBlockEntity extends CachedRenderBBBlockEntity
 
 	@SuppressWarnings("unchecked")
 	public <T extends BlockEntityBehaviour> T getBehaviour(BehaviourType<T> type) {
-		return (T) behaviours.get(type);
+		int id = type.getId();
+		return id < behavioursById.length ? (T) behavioursById[id] : null;
 	}
 
 	public void forEachBehaviour(Consumer<BlockEntityBehaviour> action) {
-		getAllBehaviours().forEach(action);
+		for (int i = 0; i < behaviours.size(); i++)
+			action.accept(behaviours.get(i));
 	}
 
 	public Collection<BlockEntityBehaviour> getAllBehaviours() {
-		return behaviours.values();
+		return behavioursView;
 	}
 
 	protected void attachBehaviourLate(BlockEntityBehaviour behaviour) {
-		behaviours.put(behaviour.getType(), behaviour);
+		putBehaviour(behaviour);
+		updateTickingBehaviours();
 		behaviour.initialize();
 	}
 
+	private void putBehaviour(BlockEntityBehaviour behaviour) {
+		int id = behaviour.getType()
+			.getId();
+		if (id >= behavioursById.length)
+			behavioursById = Arrays.copyOf(behavioursById, id + 1);
+		BlockEntityBehaviour replaced = behavioursById[id];
+		behavioursById[id] = behaviour;
+		if (replaced != null)
+			behaviours.set(behaviours.indexOf(replaced), behaviour);
+		else
+			behaviours.add(behaviour);
+	}
+
+	private void updateTickingBehaviours() {
+		tickingBehaviours = behaviours.stream()
+			.filter(BlockEntityBehaviour::isTicking)
+			.toArray(BlockEntityBehaviour[]::new);
+	}
+
+	private void fireBehaviourEvent() {
+		Map<BehaviourType<?>, BlockEntityBehaviour> map = new LinkedHashMap<>();
+		forEachBehaviour(b -> map.put(b.getType(), b));
+		BlockEntityBehaviourEvent.EVENT.invoker()
+			.manageBehaviors(new BlockEntityBehaviourEvent(this, map));
+
+		behavioursById = NO_BEHAVIOURS;
+		behaviours.clear();
+		map.values()
+			.forEach(this::putBehaviour);
+		updateTickingBehaviours();
+	}
+
 	public ItemRequirement getRequiredItems(BlockState state) {
 		return getAllBehaviours().stream()
 			.reduce(ItemRequirement.NONE, (r, b) -> r.union(b.getRequiredItems()), (r, r1) -> r.union(r1));
 	}
 
 	protected void removeBehaviour(BehaviourType<?> type) {
-		BlockEntityBehaviour remove = behaviours.remove(type);
-		if (remove != null) {
-			remove.unload();
-		}
+		int id = type.getId();
+		if (id >= behavioursById.length || behavioursById[id] == null)
+			return;
+		BlockEntityBehaviour remove = behavioursById[id];
+		behavioursById[id] = null;
+		behaviours.remove(remove);
+		updateTickingBehaviours();
+		remove.unload();
 	}
 
 	public void setLazyTickRate(int slowTickRate) {
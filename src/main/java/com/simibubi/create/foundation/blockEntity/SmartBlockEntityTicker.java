@@ -1,5 +1,7 @@
 package com.simibubi.create.foundation.blockEntity;
 
+import com.simibubi.create.infrastructure.profiler.SubsystemProfiler;
+
 import net.minecraft.core.BlockPos;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.entity.BlockEntity;
@@ -12,7 +14,9 @@ public class SmartBlockEntityTicker<T extends BlockEntity> implements BlockEntit
 	public void tick(Level p_155253_, BlockPos p_155254_, BlockState p_155255_, T p_155256_) {
 		if (!p_155256_.hasLevel())
 			p_155256_.setLevel(p_155253_);
+		long start = SubsystemProfiler.start(p_155253_);
 		((SmartBlockEntity) p_155256_).tick();
+		SubsystemProfiler.endBlockEntity(start, p_155256_);
 	}
 
 }
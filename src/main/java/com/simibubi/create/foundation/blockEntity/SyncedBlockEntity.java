@@ -2,6 +2,8 @@ package com.simibubi.create.foundation.blockEntity;
 
 import javax.annotation.ParametersAreNonnullByDefault;
 
+import com.simibubi.create.infrastructure.profiler.NetworkProfiler;
+
 import io.github.fabricators_of_create.porting_lib.block.CustomDataPacketHandlingBlockEntity;
 import io.github.fabricators_of_create.porting_lib.block.CustomUpdateTagHandlingBlockEntity;
 import io.github.fabricators_of_create.porting_lib.extensions.BlockEntityExtensions;
@@ -32,7 +34,10 @@ public abstract class SyncedBlockEntity extends BlockEntity implements BlockEnti
 
 	@Override
 	public ClientboundBlockEntityDataPacket getUpdatePacket() {
-		return ClientboundBlockEntityDataPacket.create(this);
+		ClientboundBlockEntityDataPacket packet = ClientboundBlockEntityDataPacket.create(this);
+		if (NetworkProfiler.isSampling())
+			NetworkProfiler.recordBlockEntitySync(this, packet.getTag());
+		return packet;
 	}
 
 	@Override
@@ -58,8 +63,24 @@ public abstract class SyncedBlockEntity extends BlockEntity implements BlockEnti
 	}
 
 	public void sendData() {
-		if (level instanceof ServerLevel serverLevel)
-			serverLevel.getChunkSource().blockChanged(getBlockPos());
+		if (level instanceof ServerLevel serverLevel) {
+			NetworkProfiler.recordSendData(this);
+			if (usesBatchedSync())
+				BlockEntitySyncBatcher.markDirty(this);
+			else
+				serverLevel.getChunkSource().blockChanged(getBlockPos());
+		}
+	}
+
+	/**
+	 * Whether calls to {@link #sendData()} should be collected by the
+	 * {@link BlockEntitySyncBatcher} instead of marking the block as changed.
+	 * Block entities that sync several times a tick benefit the most. Clients
+	 * receive the same data either way, but no longer along with the block
+	 * state.
+	 */
+	protected boolean usesBatchedSync() {
+		return false;
 	}
 
 	public void notifyUpdate() {
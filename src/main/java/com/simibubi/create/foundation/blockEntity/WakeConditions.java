@@ -0,0 +1,48 @@
+package com.simibubi.create.foundation.blockEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.simibubi.create.foundation.blockEntity.behaviour.inventory.VersionedInventoryWrapper;
+
+/**
+ * What should wake a sleeping {@link SmartBlockEntity}, besides an explicit call
+ * to {@link SmartBlockEntity#wake()}. Block state changes always wake it, as the
+ * level rebinds the ticker of a block entity whenever its state is replaced.
+ */
+public class WakeConditions {
+
+	private int timer = -1;
+	private final List<WatchedInventory> inventories = new ArrayList<>();
+
+	/**
+	 * Wake after the given amount of ticks at the latest.
+	 */
+	public WakeConditions after(int ticks) {
+		timer = timer < 0 ? ticks : Math.min(timer, ticks);
+		return this;
+	}
+
+	/**
+	 * Wake once the inventory no longer has the given version.
+	 */
+	public WakeConditions onInventoryChange(VersionedInventoryWrapper inventory, long version) {
+		inventories.add(new WatchedInventory(inventory, version));
+		return this;
+	}
+
+	public int getTimer() {
+		return timer;
+	}
+
+	public boolean inventoryChanged() {
+		for (WatchedInventory watched : inventories)
+			if (watched.inventory.getVersion() != watched.version)
+				return true;
+		return false;
+	}
+
+	private record WatchedInventory(VersionedInventoryWrapper inventory, long version) {
+	}
+
+}
@@ -1,8 +1,13 @@
 package com.simibubi.create.foundation.blockEntity.behaviour;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 public class BehaviourType<T extends BlockEntityBehaviour> {
 
+	private static final AtomicInteger NEXT_ID = new AtomicInteger();
+
 	private String name;
+	private final int id = NEXT_ID.getAndIncrement();
 
 	public BehaviourType(String name) {
 		this.name = name;
@@ -16,6 +21,14 @@ public class BehaviourType<T extends BlockEntityBehaviour> {
 		return name;
 	}
 
+	/**
+	 * Types are numbered in the order they are created, block entities use this
+	 * to look up their behaviours by index.
+	 */
+	public int getId() {
+		return id;
+	}
+
 	@Override
 	public int hashCode() {
 		return super.hashCode() * 31 * 493286711; // Better hash table distribution
@@ -2,8 +2,11 @@ package com.simibubi.create.foundation.blockEntity.behaviour;
 
 import java.util.ConcurrentModificationException;
 
+import javax.annotation.Nullable;
+
 import com.simibubi.create.content.schematics.requirement.ItemRequirement;
 import com.simibubi.create.foundation.blockEntity.SmartBlockEntity;
+import com.simibubi.create.foundation.blockEntity.WakeConditions;
 
 import net.minecraft.core.BlockPos;
 import net.minecraft.nbt.CompoundTag;
@@ -14,6 +17,20 @@ import net.minecraft.world.level.block.state.BlockState;
 
 public abstract class BlockEntityBehaviour {
 
+	private static final ClassValue<Boolean> TICKING = new ClassValue<>() {
+		@Override
+		protected Boolean computeValue(Class<?> type) {
+			try {
+				return type.getMethod("tick")
+					.getDeclaringClass() != BlockEntityBehaviour.class
+					|| type.getMethod("lazyTick")
+						.getDeclaringClass() != BlockEntityBehaviour.class;
+			} catch (NoSuchMethodException e) {
+				return true;
+			}
+		}
+	};
+
 	public SmartBlockEntity blockEntity;
 	private int lazyTickRate;
 	private int lazyTickCounter;
@@ -71,6 +88,15 @@ public abstract class BlockEntityBehaviour {
 	 */
 	public void destroy() {}
 
+	/**
+	 * Whether this behaviour does anything when ticked. Behaviours that override
+	 * neither {@link #tick} nor {@link #lazyTick} are skipped by their block
+	 * entity.
+	 */
+	public final boolean isTicking() {
+		return TICKING.get(getClass());
+	}
+
 	public void setLazyTickRate(int slowTickRate) {
 		this.lazyTickRate = slowTickRate;
 		this.lazyTickCounter = slowTickRate;
@@ -80,6 +106,40 @@ public abstract class BlockEntityBehaviour {
 
 	}
 
+	/**
+	 * Whether this behaviour can do without ticks while its block entity sleeps.
+	 */
+	public boolean canSleep() {
+		return true;
+	}
+
+	/**
+	 * Adds what this behaviour needs to be woken up for.
+	 */
+	public void addWakeConditions(WakeConditions conditions) {
+
+	}
+
+	/**
+	 * Lets this behaviour be synced on its own, without the rest of its block
+	 * entity. Only return a key if {@link #read} reads nothing but what
+	 * {@link #write} writes for this behaviour.
+	 *
+	 * @return a key unique among the behaviours of the block entity, or null
+	 */
+	@Nullable
+	public String getSyncKey() {
+		return null;
+	}
+
+	/**
+	 * Sends this behaviour's data to clients. Only the behaviour is sent if the
+	 * block entity supports it, see {@link SmartBlockEntity#sendBehaviourData}.
+	 */
+	public void sendData() {
+		blockEntity.sendBehaviourData(this);
+	}
+
 	public BlockPos getPos() {
 		return blockEntity.getBlockPos();
 	}
@@ -28,6 +28,7 @@ import com.simibubi.create.infrastructure.config.AllConfigs;
 import io.github.fabricators_of_create.porting_lib.transfer.item.ItemHandlerHelper;
 import io.github.fabricators_of_create.porting_lib.util.FluidStack;
 import io.github.fabricators_of_create.porting_lib.util.NBTSerializer;
+import net.fabricmc.fabric.api.transfer.v1.item.ItemVariant;
 import net.fabricmc.fabric.api.transfer.v1.item.PlayerInventoryStorage;
 
 import net.minecraft.ChatFormatting;
@@ -96,6 +97,11 @@ public class FilteringBehaviour extends BlockEntityBehaviour implements ValueSet
 		super.write(nbt, clientPacket);
 	}
 
+	@Override
+	public String getSyncKey() {
+		return "Filter";
+	}
+
 	@Override
 	public void read(CompoundTag nbt, boolean clientPacket) {
 		filter = FilterItemStack.of(nbt.getCompound("Filter"));
@@ -164,7 +170,7 @@ public class FilteringBehaviour extends BlockEntityBehaviour implements ValueSet
 			count = Math.min(count, stack.getMaxStackSize());
 		callback.accept(filter);
 		blockEntity.setChanged();
-		blockEntity.sendData();
+		sendData();
 		return true;
 	}
 
@@ -176,7 +182,7 @@ public class FilteringBehaviour extends BlockEntityBehaviour implements ValueSet
 			.getMaxStackSize());
 		upTo = settings.row() == 0;
 		blockEntity.setChanged();
-		blockEntity.sendData();
+		sendData();
 		playFeedbackSound(this);
 	}
 
@@ -222,6 +228,10 @@ public class FilteringBehaviour extends BlockEntityBehaviour implements ValueSet
 		return !isActive() || filter.test(blockEntity.getLevel(), stack);
 	}
 
+	public boolean test(ItemVariant variant) {
+		return !isActive() || filter.test(blockEntity.getLevel(), variant);
+	}
+
 	public boolean test(FluidStack stack) {
 		return !isActive() || filter.test(blockEntity.getLevel(), stack);
 	}
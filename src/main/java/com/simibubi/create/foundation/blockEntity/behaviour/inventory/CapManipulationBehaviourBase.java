@@ -3,6 +3,7 @@ package com.simibubi.create.foundation.blockEntity.behaviour.inventory;
 import javax.annotation.Nullable;
 
 import com.simibubi.create.foundation.blockEntity.SmartBlockEntity;
+import com.simibubi.create.foundation.blockEntity.WakeConditions;
 import com.simibubi.create.foundation.blockEntity.behaviour.BlockEntityBehaviour;
 import com.simibubi.create.foundation.blockEntity.behaviour.filtering.FilteringBehaviour;
 import com.simibubi.create.foundation.item.ItemHelper.ExtractionCountMode;
@@ -101,6 +102,17 @@ public abstract class CapManipulationBehaviourBase<T, S extends CapManipulationB
 		}
 	}
 
+	@Override
+	public boolean canSleep() {
+		return !findNewNextTick;
+	}
+
+	@Override
+	public void addWakeConditions(WakeConditions conditions) {
+		// Keep the periodic lookup of the targeted storage
+		conditions.after(64);
+	}
+
 	public int getAmountFromFilter() {
 		int amount = -1;
 		FilteringBehaviour filter = blockEntity.getBehaviour(FilteringBehaviour.TYPE);
@@ -1,5 +1,6 @@
 package com.simibubi.create.foundation.blockEntity.behaviour.inventory;
 
+import java.util.function.BiFunction;
 import java.util.function.Predicate;
 
 import org.jetbrains.annotations.Nullable;
@@ -60,10 +61,16 @@ public class InvManipulationBehaviour extends CapManipulationBehaviourBase<ItemV
 	}
 
 	public ItemStack extract(ExtractionCountMode mode, int amount) {
-		return extract(mode, amount, Predicates.alwaysTrue());
+		Predicate<ItemVariant> test = getFilterVariantTest();
+		return extract((inventory, simulate) -> ItemHelper.extractMatching(inventory, test, mode, amount, simulate));
 	}
 
 	public ItemStack extract(ExtractionCountMode mode, int amount, Predicate<ItemStack> filter) {
+		Predicate<ItemStack> test = getFilterTest(filter);
+		return extract((inventory, simulate) -> ItemHelper.extract(inventory, test, mode, amount, simulate));
+	}
+
+	private ItemStack extract(BiFunction<Storage<ItemVariant>, Boolean, ItemStack> extraction) {
 		boolean shouldSimulate = simulateNext;
 		simulateNext = false;
 
@@ -73,11 +80,10 @@ public class InvManipulationBehaviour extends CapManipulationBehaviourBase<ItemV
 		if (inventory == null)
 			return ItemStack.EMPTY;
 
-		Predicate<ItemStack> test = getFilterTest(filter);
-		ItemStack simulatedItems = ItemHelper.extract(inventory, test, mode, amount, true);
+		ItemStack simulatedItems = extraction.apply(inventory, true);
 		if (shouldSimulate || simulatedItems.isEmpty())
 			return simulatedItems;
-		return ItemHelper.extract(inventory, test, mode, amount, false);
+		return extraction.apply(inventory, false);
 	}
 
 	public ItemStack insert(ItemStack stack) {
@@ -106,6 +112,13 @@ public class InvManipulationBehaviour extends CapManipulationBehaviourBase<ItemV
 		return test;
 	}
 
+	protected Predicate<ItemVariant> getFilterVariantTest() {
+		FilteringBehaviour filter = blockEntity.getBehaviour(FilteringBehaviour.TYPE);
+		if (filter != null)
+			return filter::test;
+		return Predicates.alwaysTrue();
+	}
+
 	@Override
 	public BehaviourType<?> getType() {
 		return behaviourType;
@@ -1,6 +1,7 @@
 package com.simibubi.create.foundation.blockEntity.behaviour.inventory;
 
 import com.simibubi.create.foundation.blockEntity.SmartBlockEntity;
+import com.simibubi.create.foundation.blockEntity.WakeConditions;
 import com.simibubi.create.foundation.blockEntity.behaviour.BehaviourType;
 import com.simibubi.create.foundation.blockEntity.behaviour.BlockEntityBehaviour;
 
@@ -13,6 +14,7 @@ public class VersionedInventoryTrackerBehaviour extends BlockEntityBehaviour {
 
 	private int ignoredId;
 	private long ignoredVersion;
+	private VersionedInventoryWrapper ignoredInventory;
 
 	public VersionedInventoryTrackerBehaviour(SmartBlockEntity be) {
 		super(be);
@@ -38,12 +40,21 @@ public class VersionedInventoryTrackerBehaviour extends BlockEntityBehaviour {
 		if (handler instanceof VersionedInventoryWrapper viw) {
 			ignoredId = viw.getId();
 			ignoredVersion = viw.getVersion();
+			ignoredInventory = viw;
 		}
 	}
 
 	public void reset() {
 		ignoredVersion = -1;
 		ignoredId = -1;
+		ignoredInventory = null;
+		blockEntity.wake();
+	}
+
+	@Override
+	public void addWakeConditions(WakeConditions conditions) {
+		if (ignoredInventory != null)
+			conditions.onInventoryChange(ignoredInventory, ignoredVersion);
 	}
 
 	@Override
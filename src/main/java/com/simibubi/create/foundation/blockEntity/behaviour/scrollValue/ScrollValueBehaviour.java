@@ -68,6 +68,11 @@ public class ScrollValueBehaviour extends BlockEntityBehaviour implements ValueS
 		super.write(nbt, clientPacket);
 	}
 
+	@Override
+	public String getSyncKey() {
+		return "ScrollValue";
+	}
+
 	@Override
 	public void read(CompoundTag nbt, boolean clientPacket) {
 		value = nbt.getInt("ScrollValue");
@@ -112,7 +117,7 @@ public class ScrollValueBehaviour extends BlockEntityBehaviour implements ValueS
 		this.value = value;
 		callback.accept(value);
 		blockEntity.setChanged();
-		blockEntity.sendData();
+		sendData();
 	}
 
 	public int getValue() {
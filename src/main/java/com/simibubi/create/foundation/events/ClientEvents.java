@@ -22,6 +22,7 @@ import com.simibubi.create.content.contraptions.minecart.CouplingPhysics;
 import com.simibubi.create.content.contraptions.minecart.CouplingRenderer;
 import com.simibubi.create.content.contraptions.minecart.capability.CapabilityMinecartController;
 import com.simibubi.create.content.contraptions.render.ContraptionRenderDispatcher;
+import com.simibubi.create.content.contraptions.sync.ContraptionSyncCache;
 import com.simibubi.create.content.decoration.girder.GirderWrenchBehavior;
 import com.simibubi.create.content.equipment.armor.BacktankArmorLayer;
 import com.simibubi.create.content.equipment.armor.DivingHelmetItem;
@@ -132,6 +133,7 @@ import net.minecraft.world.phys.Vec3;
 public class ClientEvents {
 
 	public static void onTickStart(Minecraft client) {
+		CreateClient.BUFFER_CACHE.tick();
 		LinkedControllerClientHandler.tick();
 		ControlsHandler.tick();
 		AirCurrent.tickClientPlayerSounds();
@@ -207,6 +209,8 @@ public class ClientEvents {
 
 	public static void onLeave(ClientPacketListener handler, Minecraft client) {
 		CreateClient.RAILWAYS.cleanUp();
+		ContraptionSyncCache.client()
+			.clear();
 	}
 
 	public static void onLoadWorld(Minecraft client, ClientLevel world) {
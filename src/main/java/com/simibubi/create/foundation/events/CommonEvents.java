@@ -20,6 +20,7 @@ import com.simibubi.create.content.contraptions.minecart.CouplingPhysics;
 import com.simibubi.create.content.contraptions.minecart.MinecartCouplingItem;
 import com.simibubi.create.content.contraptions.minecart.capability.CapabilityMinecartController;
 import com.simibubi.create.content.contraptions.mounted.MinecartContraptionItem;
+import com.simibubi.create.content.contraptions.sync.ContraptionSyncCache;
 import com.simibubi.create.content.equipment.armor.DivingBootsItem;
 import com.simibubi.create.content.equipment.armor.DivingHelmetItem;
 import com.simibubi.create.content.equipment.armor.NetheriteDivingHandler;
@@ -45,6 +46,8 @@ import com.simibubi.create.content.redstone.link.controller.LinkedControllerServ
 import com.simibubi.create.content.trains.entity.CarriageEntityHandler;
 import com.simibubi.create.content.trains.schedule.ScheduleItemEntityInteraction;
 import com.simibubi.create.foundation.block.ItemUseOverrides;
+import com.simibubi.create.foundation.blockEntity.BlockEntitySleepScheduler;
+import com.simibubi.create.foundation.blockEntity.BlockEntitySyncBatcher;
 import com.simibubi.create.foundation.blockEntity.behaviour.ValueSettingsInputHandler;
 import com.simibubi.create.foundation.blockEntity.behaviour.edgeInteraction.EdgeInteractionHandler;
 import com.simibubi.create.foundation.fluid.FluidHelper;
@@ -54,6 +57,9 @@ import com.simibubi.create.foundation.utility.ServerSpeedProvider;
 import com.simibubi.create.foundation.utility.WorldAttached;
 import com.simibubi.create.foundation.utility.fabric.AbstractMinecartExtensions;
 import com.simibubi.create.infrastructure.command.AllCommands;
+import com.simibubi.create.infrastructure.profiler.NetworkProfiler;
+import com.simibubi.create.infrastructure.profiler.SubsystemProfiler;
+import com.simibubi.create.infrastructure.profiler.SubsystemProfiler.Subsystem;
 import com.simibubi.create.infrastructure.worldgen.AllOreFeatureConfigEntries;
 
 import io.github.fabricators_of_create.porting_lib.event.common.BlockEvents;
@@ -112,6 +118,8 @@ public class CommonEvents {
 		Create.LAGGER.tick();
 		ServerSpeedProvider.serverTick(server);
 		Create.RAILWAYS.sync.serverTick();
+		SubsystemProfiler.serverTick();
+		NetworkProfiler.serverTick();
 	}
 
 	public static void onChunkUnloaded(Level world, LevelChunk chunk) {
@@ -126,6 +134,7 @@ public class CommonEvents {
 	public static void playerLoggedOut(ServerGamePacketListenerImpl handler, MinecraftServer server) {
 		Player player = handler.getPlayer();
 		Create.RAILWAYS.playerLogout(player);
+		ContraptionSyncCache.playerLogout(handler.getPlayer());
 	}
 
 	public static BlockState whenFluidsMeet(LevelAccessor world, BlockPos pos, BlockState blockState) {
@@ -149,12 +158,18 @@ public class CommonEvents {
 
 	public static void onWorldTick(Level world) {
 		if (!world.isClientSide()) {
+			long start = SubsystemProfiler.start(world);
 			ContraptionHandler.tick(world);
+			SubsystemProfiler.end(start, Subsystem.CONTRAPTIONS, world, null);
 			CapabilityMinecartController.tick(world);
 			CouplingPhysics.tick(world);
 			LinkedControllerServerHandler.tick(world);
 			ControlsServerHandler.tick(world);
+			start = SubsystemProfiler.start(world);
 			Create.RAILWAYS.tick(world);
+			SubsystemProfiler.end(start, Subsystem.RAILWAYS, world, null);
+			BlockEntitySleepScheduler.tick(world);
+			BlockEntitySyncBatcher.tick(world);
 		}
 	}
 
@@ -194,6 +209,7 @@ public class CommonEvents {
 
 	public static void serverStopping(MinecraftServer server) {
 		Create.SCHEMATIC_RECEIVER.shutdown();
+		ContraptionSyncCache.serverStopping();
 	}
 
 	public static void onLoadWorld(Executor executor, LevelAccessor world) {
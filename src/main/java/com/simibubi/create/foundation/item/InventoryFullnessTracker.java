@@ -0,0 +1,105 @@
+package com.simibubi.create.foundation.item;
+
+import java.util.BitSet;
+
+import io.github.fabricators_of_create.porting_lib.transfer.item.ItemStackHandler;
+import net.minecraft.world.item.ItemStack;
+
+/**
+ * Running totals of how full an {@link ItemStackHandler} is, for comparator
+ * output without walking every slot. Slots are marked from
+ * {@code onContentsChanged} and re-read lazily, outside of any transaction, so
+ * aborted transfers cannot leave the totals out of date.
+ */
+public class InventoryFullnessTracker {
+
+	private static final int RESYNC_INTERVAL = 4096;
+
+	private final ItemStackHandler inventory;
+	private float[] slotFill;
+	private final BitSet dirty;
+	private boolean allDirty;
+	private int updatesSinceResync;
+
+	private double fill;
+	private int occupiedSlots;
+
+	public InventoryFullnessTracker(ItemStackHandler inventory) {
+		this.inventory = inventory;
+		this.slotFill = new float[0];
+		this.dirty = new BitSet();
+		this.allDirty = true;
+	}
+
+	public void markDirty(int slot) {
+		dirty.set(slot);
+	}
+
+	public void markAllDirty() {
+		allDirty = true;
+	}
+
+	/**
+	 * @return the summed fill fraction of all slots
+	 */
+	public double getFill() {
+		flush();
+		return fill;
+	}
+
+	public int getOccupiedSlots() {
+		flush();
+		return occupiedSlots;
+	}
+
+	public int getSlots() {
+		return inventory.getSlots();
+	}
+
+	private void flush() {
+		if (allDirty || slotFill.length != inventory.getSlots() || updatesSinceResync >= RESYNC_INTERVAL) {
+			resync();
+			return;
+		}
+
+		for (int slot = dirty.nextSetBit(0); slot >= 0; slot = dirty.nextSetBit(slot + 1)) {
+			float previous = slotFill[slot];
+			float current = fillOf(slot);
+			if (previous > 0)
+				occupiedSlots--;
+			if (current > 0)
+				occupiedSlots++;
+			fill += current - previous;
+			slotFill[slot] = current;
+			updatesSinceResync++;
+		}
+		dirty.clear();
+	}
+
+	private void resync() {
+		int slots = inventory.getSlots();
+		if (slotFill.length != slots)
+			slotFill = new float[slots];
+		fill = 0;
+		occupiedSlots = 0;
+		for (int slot = 0; slot < slots; slot++) {
+			float current = fillOf(slot);
+			slotFill[slot] = current;
+			fill += current;
+			if (current > 0)
+				occupiedSlots++;
+		}
+		dirty.clear();
+		allDirty = false;
+		updatesSinceResync = 0;
+	}
+
+	private float fillOf(int slot) {
+		ItemStack stack = inventory.getStackInSlot(slot);
+		if (stack.isEmpty())
+			return 0;
+		int limit = Math.min(inventory.getSlotLimit(slot), stack.getMaxStackSize());
+		return limit <= 0 ? 0 : (float) stack.getCount() / limit;
+	}
+
+}
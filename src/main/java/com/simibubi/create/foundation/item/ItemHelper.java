@@ -94,11 +94,19 @@ public class ItemHelper {
 			}
 		}
 
+		return calcRedstoneFromFill(f, i, totalSlots);
+	}
+
+	/**
+	 * Comparator output for an inventory with the given summed fill fraction of
+	 * its slots, as computed by {@link #calcRedstoneFromInventory}.
+	 */
+	public static int calcRedstoneFromFill(double fill, int occupiedSlots, int totalSlots) {
 		if (totalSlots == 0)
 			return 0;
 
-		f = f / totalSlots;
-		return Mth.floor(f * 14.0F) + (i > 0 ? 1 : 0);
+		float f = (float) (fill / totalSlots);
+		return Mth.floor(f * 14.0F) + (occupiedSlots > 0 ? 1 : 0);
 	}
 
 	public static List<Pair<Ingredient, MutableInt>> condenseIngredients(NonNullList<Ingredient> recipeIngredients) {
@@ -165,6 +173,30 @@ public class ItemHelper {
 
 	public static ItemStack extract(Storage<ItemVariant> inv, Predicate<ItemStack> test, ExtractionCountMode mode, int amount,
 		boolean simulate) {
+		return extract(inv, null, test, mode, amount, simulate);
+	}
+
+	public static ItemStack extractMatching(Storage<ItemVariant> inv, Predicate<ItemVariant> test, boolean simulate) {
+		return extractMatching(inv, test, ExtractionCountMode.UPTO, 64, simulate);
+	}
+
+	public static ItemStack extractMatching(Storage<ItemVariant> inv, Predicate<ItemVariant> test, int exactAmount,
+		boolean simulate) {
+		return extractMatching(inv, test, ExtractionCountMode.EXACTLY, exactAmount, simulate);
+	}
+
+	/**
+	 * Like {@link #extract(Storage, Predicate, ExtractionCountMode, int, boolean)},
+	 * but tests the stored variants directly. No stacks are created for slots that
+	 * do not match.
+	 */
+	public static ItemStack extractMatching(Storage<ItemVariant> inv, Predicate<ItemVariant> test,
+		ExtractionCountMode mode, int amount, boolean simulate) {
+		return extract(inv, test, null, mode, amount, simulate);
+	}
+
+	private static ItemStack extract(Storage<ItemVariant> inv, @Nullable Predicate<ItemVariant> variantTest,
+		@Nullable Predicate<ItemStack> stackTest, ExtractionCountMode mode, int amount, boolean simulate) {
 		int extracted = 0;
 		ItemVariant extracting = null;
 		List<ItemVariant> otherTargets = null;
@@ -176,7 +208,9 @@ public class ItemHelper {
 					int maxStackSize = contained.getItem().getMaxStackSize();
 					// amount stored, amount needed, or max size, whichever is lowest.
 					int amountToExtractFromThisSlot = Math.min(truncateLong(view.getAmount()), Math.min(amount - extracted, maxStackSize));
-					if (!test.test(contained.toStack(amountToExtractFromThisSlot)))
+					if (variantTest != null && !variantTest.test(contained))
+						continue;
+					if (stackTest != null && !stackTest.test(contained.toStack(amountToExtractFromThisSlot)))
 						continue;
 					if (extracting == null) {
 						extracting = contained; // we found a target
@@ -218,7 +252,7 @@ public class ItemHelper {
 						try (Transaction nested = TransferUtil.getTransaction()) {
 							for (ItemVariant target : otherTargets) {
 								// try again, but now only match the existing matches we've found
-								ItemStack successfulExtraction = extract(inv, target::matches, mode, amount, simulate);
+								ItemStack successfulExtraction = extract(inv, target::equals, null, mode, amount, simulate);
 								if (!successfulExtraction.isEmpty()) {
 									if (!simulate) nested.commit();
 									return successfulExtraction;
@@ -0,0 +1,29 @@
+package com.simibubi.create.foundation.mixin;
+
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
+
+import com.simibubi.create.foundation.utility.WorldAttachedSlots;
+
+import net.minecraft.world.level.Level;
+
+@Mixin(Level.class)
+public class LevelMixin implements WorldAttachedSlots {
+
+	@Unique
+	private static final Object[] NO_SLOTS = new Object[0];
+
+	@Unique
+	private Object[] worldAttachedSlots;
+
+	@Override
+	public Object[] getWorldAttachedSlots() {
+		return worldAttachedSlots == null ? NO_SLOTS : worldAttachedSlots;
+	}
+
+	@Override
+	public void setWorldAttachedSlots(Object[] slots) {
+		worldAttachedSlots = slots;
+	}
+
+}
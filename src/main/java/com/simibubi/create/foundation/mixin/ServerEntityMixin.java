@@ -0,0 +1,27 @@
+package com.simibubi.create.foundation.mixin;
+
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+import com.simibubi.create.content.contraptions.sync.ContraptionSyncCache;
+
+import net.minecraft.server.level.ServerEntity;
+import net.minecraft.server.level.ServerPlayer;
+
+@Mixin(ServerEntity.class)
+public class ServerEntityMixin {
+
+	// sendPairingData only receives the player's send method, addPairing has the player itself
+	@Inject(method = "addPairing", at = @At("HEAD"))
+	private void create$rememberPairingPlayer(ServerPlayer player, CallbackInfo ci) {
+		ContraptionSyncCache.setPairingPlayer(player);
+	}
+
+	@Inject(method = "addPairing", at = @At("RETURN"))
+	private void create$forgetPairingPlayer(ServerPlayer player, CallbackInfo ci) {
+		ContraptionSyncCache.setPairingPlayer(null);
+	}
+
+}
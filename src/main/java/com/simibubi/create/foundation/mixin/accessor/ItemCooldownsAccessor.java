@@ -0,0 +1,15 @@
+package com.simibubi.create.foundation.mixin.accessor;
+
+import java.util.Map;
+
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.gen.Accessor;
+
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemCooldowns;
+
+@Mixin(ItemCooldowns.class)
+public interface ItemCooldownsAccessor {
+	@Accessor("cooldowns")
+	Map<Item, ?> create$getCooldowns();
+}
@@ -0,0 +1,17 @@
+package com.simibubi.create.foundation.mixin.accessor;
+
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.gen.Invoker;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.chunk.LevelChunk;
+
+@Mixin(LevelChunk.class)
+public interface LevelChunkAccessor {
+	@Invoker("updateBlockEntityTicker")
+	void create$callUpdateBlockEntityTicker(BlockEntity blockEntity);
+
+	@Invoker("removeBlockEntityTicker")
+	void create$callRemoveBlockEntityTicker(BlockPos pos);
+}
@@ -1,6 +1,7 @@
 package com.simibubi.create.foundation.networking;
 
 import com.simibubi.create.foundation.mixin.fabric.BlockableEventLoopAccessor;
+import com.simibubi.create.infrastructure.profiler.NetworkProfiler;
 
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
@@ -28,7 +29,13 @@ public abstract class SimplePacketBase implements C2SPacket, S2CPacket {
 
 	@Override
 	public final void encode(FriendlyByteBuf buffer) {
+		if (!NetworkProfiler.isSampling()) {
+			write(buffer);
+			return;
+		}
+		int start = buffer.writerIndex();
 		write(buffer);
+		NetworkProfiler.recordPacket(this, buffer.writerIndex() - start);
 	}
 
 	@Override
@@ -63,7 +63,7 @@ import net.minecraft.world.phys.shapes.VoxelShape;
 public class WorldSectionElement extends AnimatedSceneElement {
 
 	public static final SuperByteBufferCache.Compartment<Pair<Integer, Integer>> DOC_WORLD_SECTION =
-		new SuperByteBufferCache.Compartment<>();
+		new SuperByteBufferCache.Compartment<>("Ponder Sections");
 
 	private static final ThreadLocal<ThreadLocalObjects> THREAD_LOCAL_OBJECTS = ThreadLocal.withInitial(ThreadLocalObjects::new);
 
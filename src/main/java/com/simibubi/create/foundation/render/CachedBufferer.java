@@ -18,9 +18,9 @@ import net.minecraft.world.level.block.state.BlockState;
 
 public class CachedBufferer {
 
-	public static final Compartment<BlockState> GENERIC_BLOCK = new Compartment<>();
-	public static final Compartment<PartialModel> PARTIAL = new Compartment<>();
-	public static final Compartment<Pair<Direction, PartialModel>> DIRECTIONAL_PARTIAL = new Compartment<>();
+	public static final Compartment<BlockState> GENERIC_BLOCK = new Compartment<>("Blocks");
+	public static final Compartment<PartialModel> PARTIAL = new Compartment<>("Partial Models");
+	public static final Compartment<Pair<Direction, PartialModel>> DIRECTIONAL_PARTIAL = new Compartment<>("Directional Partial Models");
 
 	public static SuperByteBuffer block(BlockState toRender) {
 		return block(GENERIC_BLOCK, toRender);
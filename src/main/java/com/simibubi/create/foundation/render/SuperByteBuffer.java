@@ -17,26 +17,19 @@ import com.mojang.blaze3d.vertex.VertexConsumer;
 import com.mojang.math.Matrix3f;
 import com.mojang.math.Matrix4f;
 import com.mojang.math.Quaternion;
-import com.mojang.math.Vector3f;
-import com.mojang.math.Vector4f;
 import com.simibubi.create.foundation.block.render.SpriteShiftEntry;
 import com.simibubi.create.foundation.utility.Color;
 
-import it.unimi.dsi.fastutil.longs.Long2IntMap;
-import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
-import net.minecraft.client.Minecraft;
-import net.minecraft.client.renderer.LevelRenderer;
 import net.minecraft.client.renderer.LightTexture;
 import net.minecraft.client.renderer.texture.OverlayTexture;
-import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.util.Mth;
-import net.minecraft.world.level.Level;
 
 public class SuperByteBuffer implements Transform<SuperByteBuffer>, TStack<SuperByteBuffer> {
 
 	private final VertexList template;
 	private final IntPredicate shadedPredicate;
+	private final int byteSize;
 
 	// Vertex Position
 	private final PoseStack transforms = new PoseStack();
@@ -65,7 +58,7 @@ public class SuperByteBuffer implements Transform<SuperByteBuffer>, TStack<Super
 	private boolean fullNormalTransform;
 
 	// Temporary
-	private static final Long2IntMap WORLD_LIGHT_CACHE = new Long2IntOpenHashMap();
+	private static final TransformedVertices RENDER_THREAD_VERTICES = new TransformedVertices();
 
 	public SuperByteBuffer(ByteBuffer vertexBuffer, BufferBuilder.DrawState drawState, int unshadedStartVertex) {
 		int vertexCount = drawState.vertexCount();
@@ -74,6 +67,7 @@ public class SuperByteBuffer implements Transform<SuperByteBuffer>, TStack<Super
 		ShadedVertexList template = new BlockVertexList.Shaded(vertexBuffer, vertexCount, stride, unshadedStartVertex);
 		shadedPredicate = template::isShaded;
 		this.template = template;
+		byteSize = vertexCount * stride;
 
 		transforms.pushPose();
 	}
@@ -88,6 +82,7 @@ public class SuperByteBuffer implements Transform<SuperByteBuffer>, TStack<Super
 
 		template = new BlockVertexList(vertexBuffer, vertexCount, stride);
 		shadedPredicate = index -> true;
+		byteSize = vertexCount * stride;
 
 		transforms.pushPose();
 	}
@@ -96,12 +91,24 @@ public class SuperByteBuffer implements Transform<SuperByteBuffer>, TStack<Super
 		if (isEmpty())
 			return;
 
+		prepare(input, RENDER_THREAD_VERTICES);
+		RENDER_THREAD_VERTICES.transform();
+		RENDER_THREAD_VERTICES.writeInto(builder);
+		RENDER_THREAD_VERTICES.clear();
+	}
+
+	/**
+	 * Captures everything {@link #renderInto} needs and resets this buffer, so
+	 * the vertices can be transformed later or on another thread.
+	 */
+	void prepare(PoseStack input, TransformedVertices out) {
 		Matrix4f modelMat = input.last()
 			.pose()
 			.copy();
 		Matrix4f localTransforms = transforms.last()
 			.pose();
 		modelMat.multiply(localTransforms);
+		TransformedVertices.store(modelMat, out.model);
 
 		Matrix3f normalMat;
 		if (fullNormalTransform) {
@@ -113,110 +120,41 @@ public class SuperByteBuffer implements Transform<SuperByteBuffer>, TStack<Super
 			normalMat.mul(localNormalTransforms);
 		} else {
 			normalMat = transforms.last()
-				.normal()
-				.copy();
+				.normal();
 		}
+		TransformedVertices.store(normalMat, out.normal);
 
 		if (useWorldLight) {
-			WORLD_LIGHT_CACHE.clear();
+			Matrix4f lightMat = lightTransform != null ? lightTransform.copy() : localTransforms.copy();
+			if (lightTransform != null)
+				lightMat.multiply(localTransforms);
+			TransformedVertices.store(lightMat, out.light);
 		}
 
-		final Vector4f pos = new Vector4f();
-		final Vector3f normal = new Vector3f();
-		final Vector4f lightPos = new Vector4f();
-
 		DiffuseLightCalculator diffuseCalculator = ForcedDiffuseState.getForcedCalculator();
-		final boolean disableDiffuseMult =
+		out.disableDiffuseMult =
 			this.disableDiffuseMult || (ShadersModHandler.isShaderPackInUse() && diffuseCalculator == null);
 		if (diffuseCalculator == null) {
 			diffuseCalculator = this.diffuseCalculator;
-			if (diffuseCalculator == null) {
+			if (diffuseCalculator == null && !out.disableDiffuseMult) {
 				diffuseCalculator = DiffuseLightCalculator.forCurrentLevel();
 			}
 		}
 
-		final int vertexCount = template.getVertexCount();
-		for (int i = 0; i < vertexCount; i++) {
-			float x = template.getX(i);
-			float y = template.getY(i);
-			float z = template.getZ(i);
-
-			pos.set(x, y, z, 1F);
-			pos.transform(modelMat);
-			builder.vertex(pos.x(), pos.y(), pos.z());
-
-			float normalX = template.getNX(i);
-			float normalY = template.getNY(i);
-			float normalZ = template.getNZ(i);
-
-			normal.set(normalX, normalY, normalZ);
-			normal.transform(normalMat);
-			float nx = normal.x();
-			float ny = normal.y();
-			float nz = normal.z();
-
-			byte r, g, b, a;
-			if (shouldColor) {
-				r = (byte) this.r;
-				g = (byte) this.g;
-				b = (byte) this.b;
-				a = (byte) this.a;
-			} else {
-				r = template.getR(i);
-				g = template.getG(i);
-				b = template.getB(i);
-				a = template.getA(i);
-			}
-			if (disableDiffuseMult) {
-				builder.color(r, g, b, a);
-			} else {
-				float instanceDiffuse = diffuseCalculator.getDiffuse(nx, ny, nz, shadedPredicate.test(i));
-				int colorR = transformColor(r, instanceDiffuse);
-				int colorG = transformColor(g, instanceDiffuse);
-				int colorB = transformColor(b, instanceDiffuse);
-				builder.color(colorR, colorG, colorB, a);
-			}
-
-			float u = template.getU(i);
-			float v = template.getV(i);
-			if (spriteShiftFunc != null) {
-				spriteShiftFunc.shift(builder, u, v);
-			} else {
-				builder.uv(u, v);
-			}
-
-			if (hasOverlay) {
-				builder.overlayCoords(overlay);
-			}
-
-			int light;
-			if (useWorldLight) {
-				lightPos.set(((x - .5f) * 15 / 16f) + .5f, (y - .5f) * 15 / 16f + .5f, (z - .5f) * 15 / 16f + .5f, 1f);
-				lightPos.transform(localTransforms);
-				if (lightTransform != null) {
-					lightPos.transform(lightTransform);
-				}
-
-				light = getLight(Minecraft.getInstance().level, lightPos);
-				if (hasCustomLight) {
-					light = maxLight(light, packedLightCoords);
-				}
-			} else if (hasCustomLight) {
-				light = packedLightCoords;
-			} else {
-				light = template.getLight(i);
-			}
-
-			if (hybridLight) {
-				builder.uv2(maxLight(light, template.getLight(i)));
-			} else {
-				builder.uv2(light);
-			}
-
-			builder.normal(nx, ny, nz);
-
-			builder.endVertex();
-		}
+		out.template = template;
+		out.shadedPredicate = shadedPredicate;
+		out.diffuseCalculator = diffuseCalculator;
+		out.shouldColor = shouldColor;
+		out.r = (byte) r;
+		out.g = (byte) g;
+		out.b = (byte) b;
+		out.a = (byte) a;
+		out.spriteShiftFunc = spriteShiftFunc;
+		out.overlay = overlay;
+		out.useWorldLight = useWorldLight;
+		out.hasCustomLight = hasCustomLight;
+		out.packedLightCoords = packedLightCoords;
+		out.hybridLight = hybridLight;
 
 		reset();
 	}
@@ -253,6 +191,13 @@ public class SuperByteBuffer implements Transform<SuperByteBuffer>, TStack<Super
 		template.delete();
 	}
 
+	/**
+	 * @return the size of the vertex data kept in native memory
+	 */
+	public int getByteSize() {
+		return byteSize;
+	}
+
 	public PoseStack getTransforms() {
 		return transforms;
 	}
@@ -477,11 +422,6 @@ public class SuperByteBuffer implements Transform<SuperByteBuffer>, TStack<Super
 		return LightTexture.pack(Math.max(blockLight1, blockLight2), Math.max(skyLight1, skyLight2));
 	}
 
-	private static int getLight(Level world, Vector4f lightPos) {
-		BlockPos pos = new BlockPos(lightPos.x(), lightPos.y(), lightPos.z());
-		return WORLD_LIGHT_CACHE.computeIfAbsent(pos.asLong(), $ -> LevelRenderer.getLightColor(world, pos));
-	}
-
 	@FunctionalInterface
 	public interface SpriteShiftFunc {
 		void shift(VertexConsumer builder, float u, float v);
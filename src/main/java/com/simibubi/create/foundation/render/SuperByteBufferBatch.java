@@ -0,0 +1,62 @@
+package com.simibubi.create.foundation.render;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import com.mojang.blaze3d.vertex.PoseStack;
+import com.mojang.blaze3d.vertex.VertexConsumer;
+
+/**
+ * Draws several buffers into one consumer. Buffers are added like they would
+ * be rendered, with their transforms and settings applied. When the batch is
+ * rendered, the larger ones are transformed in parallel, then all of them are
+ * written to the consumer in the order they were added.
+ * <br>
+ * Keep the batch around between frames, it reuses its vertex arrays.
+ */
+public class SuperByteBufferBatch {
+
+	// Handing smaller buffers to another thread costs more than it saves
+	private static final int MIN_PARALLEL_VERTICES = 2048;
+
+	private final List<TransformedVertices> draws = new ArrayList<>();
+	private int size;
+
+	/**
+	 * Adds the buffer as {@link SuperByteBuffer#renderInto} would draw it, and
+	 * resets it.
+	 */
+	public SuperByteBufferBatch add(SuperByteBuffer buffer, PoseStack input) {
+		if (buffer.isEmpty())
+			return this;
+		if (size == draws.size())
+			draws.add(new TransformedVertices());
+		buffer.prepare(input, draws.get(size++));
+		return this;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	public void renderInto(VertexConsumer consumer) {
+		List<CompletableFuture<Void>> parallel = new ArrayList<>();
+		for (int i = 0; i < size; i++) {
+			TransformedVertices draw = draws.get(i);
+			if (size > 1 && draw.getVertexCount() >= MIN_PARALLEL_VERTICES)
+				parallel.add(CompletableFuture.runAsync(draw::transform));
+			else
+				draw.transform();
+		}
+		parallel.forEach(CompletableFuture::join);
+
+		for (int i = 0; i < size; i++) {
+			TransformedVertices draw = draws.get(i);
+			draw.writeInto(consumer);
+			draw.clear();
+		}
+		size = 0;
+	}
+
+}
@@ -1,36 +1,60 @@
 package com.simibubi.create.foundation.render;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntSupplier;
 
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.simibubi.create.infrastructure.config.AllConfigs;
 
 public class SuperByteBufferCache {
 
-	protected final Map<Compartment<?>, Cache<Object, SuperByteBuffer>> caches = new HashMap<>();
+	protected final Map<Compartment<?>, CompartmentCache> caches = new LinkedHashMap<>();
+	// Evicted buffers may still be waiting in a batch for this frame, so they are deleted on the next tick
+	private final List<SuperByteBuffer> pendingDeletion = new ArrayList<>();
 
+	/**
+	 * Registers a compartment bounded by the client config's compartment limit.
+	 */
 	public synchronized void registerCompartment(Compartment<?> compartment) {
-		caches.put(compartment, CacheBuilder.newBuilder()
-			.<Object, SuperByteBuffer>removalListener(n -> n.getValue().delete())
-			.build());
+		registerCompartment(compartment, -1, () -> AllConfigs.client().bufferCacheLimit.get());
 	}
 
 	public synchronized void registerCompartment(Compartment<?> compartment, long ticksUntilExpired) {
-		caches.put(compartment, CacheBuilder.newBuilder()
-			.expireAfterAccess(ticksUntilExpired * 50, TimeUnit.MILLISECONDS)
-			.<Object, SuperByteBuffer>removalListener(n -> n.getValue().delete())
-			.build());
+		registerCompartment(compartment, ticksUntilExpired, () -> AllConfigs.client().bufferCacheLimit.get());
+	}
+
+	/**
+	 * @param ticksUntilExpired how long entries are kept after their last use, or
+	 *                          -1 to keep them until evicted
+	 * @param megabyteLimit     the vertex memory the compartment may use before it
+	 *                          evicts its least recently used buffers, or 0 for no
+	 *                          limit. Read again when the limits are
+	 *                          {@link #updateLimits updated}
+	 */
+	public synchronized void registerCompartment(Compartment<?> compartment, long ticksUntilExpired,
+		IntSupplier megabyteLimit) {
+		caches.put(compartment, new CompartmentCache(ticksUntilExpired, megabyteLimit));
 	}
 
 	public <T> SuperByteBuffer get(Compartment<T> compartment, T key, Callable<SuperByteBuffer> callable) {
-		Cache<Object, SuperByteBuffer> cache = caches.get(compartment);
+		CompartmentCache cache = caches.get(compartment);
 		if (cache != null) {
 			try {
-				return cache.get(key, callable);
+				return cache.get()
+					.get(key, () -> {
+						SuperByteBuffer buffer = callable.call();
+						cache.bytes.addAndGet(buffer.getByteSize());
+						return buffer;
+					});
 			} catch (ExecutionException e) {
 				e.printStackTrace();
 			}
@@ -39,18 +63,151 @@ public class SuperByteBufferCache {
 	}
 
 	public <T> void invalidate(Compartment<T> compartment, T key) {
-		caches.get(compartment).invalidate(key);
+		caches.get(compartment)
+			.get()
+			.invalidate(key);
 	}
 
 	public <T> void invalidate(Compartment<?> compartment) {
-		caches.get(compartment).invalidateAll();
+		caches.get(compartment)
+			.get()
+			.invalidateAll();
 	}
 
 	public void invalidate() {
-		caches.forEach((compartment, cache) -> cache.invalidateAll());
+		caches.forEach((compartment, cache) -> cache.get()
+			.invalidateAll());
+	}
+
+	/**
+	 * Rebuilds the compartments whose limit has changed, dropping their buffers.
+	 */
+	public synchronized void updateLimits() {
+		caches.values()
+			.forEach(CompartmentCache::updateLimit);
+	}
+
+	/**
+	 * Picks up changed limits and deletes the buffers that were removed since
+	 * the last tick.
+	 */
+	public void tick() {
+		updateLimits();
+
+		List<SuperByteBuffer> deleted;
+		synchronized (pendingDeletion) {
+			if (pendingDeletion.isEmpty())
+				return;
+			deleted = new ArrayList<>(pendingDeletion);
+			pendingDeletion.clear();
+		}
+		deleted.forEach(SuperByteBuffer::delete);
+	}
+
+	public Map<Compartment<?>, CompartmentCache> getCompartments() {
+		return caches;
 	}
 
 	public static class Compartment<T> {
+
+		private final String name;
+
+		public Compartment(String name) {
+			this.name = name;
+		}
+
+		public Compartment() {
+			this("Unnamed");
+		}
+
+		public String getName() {
+			return name;
+		}
+
+	}
+
+	public class CompartmentCache {
+
+		private final long ticksUntilExpired;
+		private final IntSupplier megabyteLimit;
+		private final AtomicLong bytes = new AtomicLong();
+		private int builtLimit;
+		private Cache<Object, SuperByteBuffer> cache;
+		// Totals of the caches replaced after a limit change
+		private long hits, misses, evictions;
+
+		private CompartmentCache(long ticksUntilExpired, IntSupplier megabyteLimit) {
+			this.ticksUntilExpired = ticksUntilExpired;
+			this.megabyteLimit = megabyteLimit;
+		}
+
+		private Cache<Object, SuperByteBuffer> get() {
+			if (cache == null)
+				build(megabyteLimit.getAsInt());
+			return cache;
+		}
+
+		private void updateLimit() {
+			int limit = megabyteLimit.getAsInt();
+			if (cache == null || limit == builtLimit)
+				return;
+			Cache<Object, SuperByteBuffer> old = cache;
+			CacheStats stats = old.stats();
+			hits += stats.hitCount();
+			misses += stats.missCount();
+			evictions += stats.evictionCount();
+			build(limit);
+			old.invalidateAll();
+		}
+
+		private void build(int limit) {
+			CacheBuilder<Object, Object> builder = CacheBuilder.newBuilder()
+				.recordStats()
+				// A single segment, so that eviction is close to least recently used across the whole compartment
+				.concurrencyLevel(1);
+			if (ticksUntilExpired >= 0)
+				builder.expireAfterAccess(ticksUntilExpired * 50, TimeUnit.MILLISECONDS);
+			if (limit > 0)
+				builder.maximumWeight(limit * 1024L * 1024L)
+					.<Object, SuperByteBuffer>weigher((key, buffer) -> buffer.getByteSize());
+			builtLimit = limit;
+			cache = builder.<Object, SuperByteBuffer>removalListener(n -> {
+				SuperByteBuffer buffer = n.getValue();
+				bytes.addAndGet(-buffer.getByteSize());
+				synchronized (pendingDeletion) {
+					pendingDeletion.add(buffer);
+				}
+			})
+				.build();
+		}
+
+		public long getHits() {
+			return hits + (cache == null ? 0 : cache.stats()
+				.hitCount());
+		}
+
+		public long getMisses() {
+			return misses + (cache == null ? 0 : cache.stats()
+				.missCount());
+		}
+
+		public long getEvictions() {
+			return evictions + (cache == null ? 0 : cache.stats()
+				.evictionCount());
+		}
+
+		public long getBytes() {
+			return bytes.get();
+		}
+
+		public long getSize() {
+			return cache == null ? 0 : cache.size();
+		}
+
+		public int getMegabyteLimit() {
+			return builtLimit;
+		}
+
 	}
 
 }
@@ -0,0 +1,275 @@
+package com.simibubi.create.foundation.render;
+
+import java.util.function.IntPredicate;
+
+import com.jozufozu.flywheel.api.vertex.VertexList;
+import com.jozufozu.flywheel.util.DiffuseLightCalculator;
+import com.mojang.blaze3d.vertex.VertexConsumer;
+import com.mojang.math.Matrix3f;
+import com.mojang.math.Matrix4f;
+import com.mojang.math.Vector3f;
+import com.mojang.math.Vector4f;
+import com.simibubi.create.foundation.render.SuperByteBuffer.SpriteShiftFunc;
+
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.renderer.LevelRenderer;
+import net.minecraft.core.BlockPos;
+import net.minecraft.util.Mth;
+import net.minecraft.world.level.Level;
+
+/**
+ * One draw of a {@link SuperByteBuffer}, with the transforms and settings it
+ * had when it was {@link SuperByteBuffer#prepare prepared}. Matrices are kept
+ * as plain arrays and the results of {@link #transform} in flat arrays, so
+ * transforming creates no objects and can run on any thread. Looking up world
+ * light and writing to the consumer happen in {@link #writeInto}, on the render
+ * thread.
+ */
+class TransformedVertices {
+
+	// Only used from the render thread, in writeInto
+	private static final Long2IntMap WORLD_LIGHT_CACHE = new Long2IntOpenHashMap();
+
+	// Column major, like the matrices they are copied from
+	final float[] model = new float[16];
+	final float[] normal = new float[9];
+	final float[] light = new float[16];
+
+	VertexList template;
+	IntPredicate shadedPredicate;
+
+	boolean shouldColor;
+	byte r, g, b, a;
+	boolean disableDiffuseMult;
+	DiffuseLightCalculator diffuseCalculator;
+	SpriteShiftFunc spriteShiftFunc;
+	int overlay;
+	boolean useWorldLight;
+	boolean hasCustomLight;
+	int packedLightCoords;
+	boolean hybridLight;
+
+	private int vertexCount;
+	private float[] positions = new float[0];
+	private float[] normals = new float[0];
+	private float[] uvs = new float[0];
+	private byte[] colors = new byte[0];
+	private int[] lights = new int[0];
+	private long[] lightPositions = new long[0];
+	private final UVCapture uvCapture = new UVCapture();
+
+	int getVertexCount() {
+		return template == null ? 0 : template.getVertexCount();
+	}
+
+	void transform() {
+		vertexCount = getVertexCount();
+		ensureCapacity(vertexCount);
+
+		final float[] m = model;
+		final float[] n = normal;
+		final float[] l = light;
+
+		for (int i = 0; i < vertexCount; i++) {
+			float x = template.getX(i);
+			float y = template.getY(i);
+			float z = template.getZ(i);
+			positions[i * 3] = m[0] * x + m[4] * y + m[8] * z + m[12];
+			positions[i * 3 + 1] = m[1] * x + m[5] * y + m[9] * z + m[13];
+			positions[i * 3 + 2] = m[2] * x + m[6] * y + m[10] * z + m[14];
+
+			float normalX = template.getNX(i);
+			float normalY = template.getNY(i);
+			float normalZ = template.getNZ(i);
+			float nx = n[0] * normalX + n[3] * normalY + n[6] * normalZ;
+			float ny = n[1] * normalX + n[4] * normalY + n[7] * normalZ;
+			float nz = n[2] * normalX + n[5] * normalY + n[8] * normalZ;
+			normals[i * 3] = nx;
+			normals[i * 3 + 1] = ny;
+			normals[i * 3 + 2] = nz;
+
+			byte r, g, b, a;
+			if (shouldColor) {
+				r = this.r;
+				g = this.g;
+				b = this.b;
+				a = this.a;
+			} else {
+				r = template.getR(i);
+				g = template.getG(i);
+				b = template.getB(i);
+				a = template.getA(i);
+			}
+			if (!disableDiffuseMult) {
+				float instanceDiffuse = diffuseCalculator.getDiffuse(nx, ny, nz, shadedPredicate.test(i));
+				r = (byte) SuperByteBuffer.transformColor(r, instanceDiffuse);
+				g = (byte) SuperByteBuffer.transformColor(g, instanceDiffuse);
+				b = (byte) SuperByteBuffer.transformColor(b, instanceDiffuse);
+			}
+			colors[i * 4] = r;
+			colors[i * 4 + 1] = g;
+			colors[i * 4 + 2] = b;
+			colors[i * 4 + 3] = a;
+
+			float u = template.getU(i);
+			float v = template.getV(i);
+			if (spriteShiftFunc != null) {
+				spriteShiftFunc.shift(uvCapture, u, v);
+				u = uvCapture.u;
+				v = uvCapture.v;
+			}
+			uvs[i * 2] = u;
+			uvs[i * 2 + 1] = v;
+
+			// World light is looked up later, this keeps what it is combined with.
+			// Combining takes the highest block and sky light, so the order does not matter
+			int vertexLight;
+			if (useWorldLight) {
+				float lx = ((x - .5f) * 15 / 16f) + .5f;
+				float ly = (y - .5f) * 15 / 16f + .5f;
+				float lz = (z - .5f) * 15 / 16f + .5f;
+				lightPositions[i] = BlockPos.asLong(Mth.floor(l[0] * lx + l[4] * ly + l[8] * lz + l[12]),
+					Mth.floor(l[1] * lx + l[5] * ly + l[9] * lz + l[13]),
+					Mth.floor(l[2] * lx + l[6] * ly + l[10] * lz + l[14]));
+				vertexLight = hasCustomLight ? packedLightCoords : 0;
+			} else if (hasCustomLight) {
+				vertexLight = packedLightCoords;
+			} else {
+				vertexLight = template.getLight(i);
+			}
+			if (hybridLight)
+				vertexLight = SuperByteBuffer.maxLight(vertexLight, template.getLight(i));
+			lights[i] = vertexLight;
+		}
+	}
+
+	/**
+	 * Writes the transformed vertices with one call per vertex. Buffer builders
+	 * in the block and entity formats write these straight into their byte
+	 * buffer, other consumers split it into the usual element calls.
+	 */
+	void writeInto(VertexConsumer consumer) {
+		Level level = null;
+		if (useWorldLight) {
+			level = Minecraft.getInstance().level;
+			WORLD_LIGHT_CACHE.clear();
+		}
+
+		for (int i = 0; i < vertexCount; i++) {
+			int vertexLight = lights[i];
+			if (useWorldLight)
+				vertexLight = SuperByteBuffer.maxLight(getLight(level, lightPositions[i]), vertexLight);
+
+			// Colors are passed as floats and truncated again by the consumer, the half keeps them exact
+			consumer.vertex(positions[i * 3], positions[i * 3 + 1], positions[i * 3 + 2],
+				(Byte.toUnsignedInt(colors[i * 4]) + .5f) / 255f, (Byte.toUnsignedInt(colors[i * 4 + 1]) + .5f) / 255f,
+				(Byte.toUnsignedInt(colors[i * 4 + 2]) + .5f) / 255f,
+				(Byte.toUnsignedInt(colors[i * 4 + 3]) + .5f) / 255f, uvs[i * 2], uvs[i * 2 + 1], overlay,
+				vertexLight, normals[i * 3], normals[i * 3 + 1], normals[i * 3 + 2]);
+		}
+	}
+
+	/**
+	 * Drops the references to the buffer and its settings, keeping the arrays
+	 * for the next draw.
+	 */
+	void clear() {
+		template = null;
+		shadedPredicate = null;
+		diffuseCalculator = null;
+		spriteShiftFunc = null;
+		vertexCount = 0;
+	}
+
+	private void ensureCapacity(int vertices) {
+		if (lights.length >= vertices)
+			return;
+		positions = new float[vertices * 3];
+		normals = new float[vertices * 3];
+		uvs = new float[vertices * 2];
+		colors = new byte[vertices * 4];
+		lights = new int[vertices];
+		lightPositions = new long[vertices];
+	}
+
+	private static int getLight(Level world, long pos) {
+		return WORLD_LIGHT_CACHE.computeIfAbsent(pos, $ -> LevelRenderer.getLightColor(world, BlockPos.of(pos)));
+	}
+
+	static void store(Matrix4f matrix, float[] out) {
+		Vector4f column = new Vector4f();
+		for (int i = 0; i < 4; i++) {
+			column.set(i == 0 ? 1 : 0, i == 1 ? 1 : 0, i == 2 ? 1 : 0, i == 3 ? 1 : 0);
+			column.transform(matrix);
+			out[i * 4] = column.x();
+			out[i * 4 + 1] = column.y();
+			out[i * 4 + 2] = column.z();
+			out[i * 4 + 3] = column.w();
+		}
+	}
+
+	static void store(Matrix3f matrix, float[] out) {
+		Vector3f column = new Vector3f();
+		for (int i = 0; i < 3; i++) {
+			column.set(i == 0 ? 1 : 0, i == 1 ? 1 : 0, i == 2 ? 1 : 0);
+			column.transform(matrix);
+			out[i * 3] = column.x();
+			out[i * 3 + 1] = column.y();
+			out[i * 3 + 2] = column.z();
+		}
+	}
+
+	/**
+	 * Receives the texture coordinates of a {@link SpriteShiftFunc}, which is
+	 * written against a vertex consumer.
+	 */
+	private static class UVCapture implements VertexConsumer {
+
+		private float u, v;
+
+		@Override
+		public VertexConsumer uv(float u, float v) {
+			this.u = u;
+			this.v = v;
+			return this;
+		}
+
+		@Override
+		public VertexConsumer vertex(double x, double y, double z) {
+			return this;
+		}
+
+		@Override
+		public VertexConsumer color(int red, int green, int blue, int alpha) {
+			return this;
+		}
+
+		@Override
+		public VertexConsumer overlayCoords(int u, int v) {
+			return this;
+		}
+
+		@Override
+		public VertexConsumer uv2(int u, int v) {
+			return this;
+		}
+
+		@Override
+		public VertexConsumer normal(float x, float y, float z) {
+			return this;
+		}
+
+		@Override
+		public void endVertex() {}
+
+		@Override
+		public void defaultColor(int red, int green, int blue, int alpha) {}
+
+		@Override
+		public void unsetDefaultColor() {}
+
+	}
+
+}
@@ -2,14 +2,17 @@ package com.simibubi.create.foundation.utility;
 
 import java.lang.ref.WeakReference;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
 import com.tterrag.registrate.util.nullness.NonNullFunction;
 
@@ -19,8 +22,12 @@ public class WorldAttached<T> {
 
 	// weak references to prevent leaking hashmaps when a WorldAttached is GC'd during runtime
 	static List<WeakReference<Map<LevelAccessor, ?>>> allMaps = new ArrayList<>();
+	private static final AtomicInteger nextSlot = new AtomicInteger();
 	private final Map<LevelAccessor, T> attached;
 	private final Function<LevelAccessor, T> factory;
+	// Entries for levels are also kept in the level itself, see WorldAttachedSlots.
+	// The map is still needed for other LevelAccessors and for iterating all entries.
+	private final int slot = nextSlot.getAndIncrement();
 
 	public WorldAttached(Function<LevelAccessor, T> factory) {
 		this.factory = factory;
@@ -43,11 +50,19 @@ public class WorldAttached<T> {
 				map.remove(world);
 			}
 		}
+		if (world instanceof WorldAttachedSlots slots)
+			slots.setWorldAttachedSlots(new Object[0]);
 	}
 
 	@Nonnull
+	@SuppressWarnings("unchecked")
 	public T get(LevelAccessor world) {
-		T t = attached.get(world);
+		T t;
+		if (world instanceof WorldAttachedSlots slots) {
+			Object[] entries = slots.getWorldAttachedSlots();
+			t = slot < entries.length ? (T) entries[slot] : null;
+		} else
+			t = attached.get(world);
 		if (t != null) return t;
 		T entry = factory.apply(world);
 		put(world, entry);
@@ -56,6 +71,26 @@ public class WorldAttached<T> {
 
 	public void put(LevelAccessor world, T entry) {
 		attached.put(world, entry);
+		setSlot(world, entry);
+	}
+
+	@Nullable
+	private T remove(LevelAccessor world) {
+		setSlot(world, null);
+		return attached.remove(world);
+	}
+
+	private void setSlot(LevelAccessor world, @Nullable T entry) {
+		if (!(world instanceof WorldAttachedSlots slots))
+			return;
+		Object[] entries = slots.getWorldAttachedSlots();
+		if (slot >= entries.length) {
+			if (entry == null)
+				return;
+			entries = Arrays.copyOf(entries, Math.max(slot + 1, nextSlot.get()));
+			slots.setWorldAttachedSlots(entries);
+		}
+		entries[slot] = entry;
 	}
 
 	/**
@@ -63,7 +98,7 @@ public class WorldAttached<T> {
 	 */
 	@Nonnull
 	public T replace(LevelAccessor world) {
-		attached.remove(world);
+		remove(world);
 
 		return get(world);
 	}
@@ -73,7 +108,7 @@ public class WorldAttached<T> {
 	 */
 	@Nonnull
 	public T replace(LevelAccessor world, Consumer<T> finalizer) {
-		T remove = attached.remove(world);
+		T remove = remove(world);
 
 		if (remove != null)
 			finalizer.accept(remove);
@@ -88,7 +123,7 @@ public class WorldAttached<T> {
 	 */
 	public void empty(BiConsumer<LevelAccessor, T> finalizer) {
 		attached.forEach(finalizer);
-		attached.clear();
+		clear();
 	}
 
 	/**
@@ -99,6 +134,12 @@ public class WorldAttached<T> {
 	public void empty(Consumer<T> finalizer) {
 		attached.values()
 				.forEach(finalizer);
+		clear();
+	}
+
+	private void clear() {
+		attached.keySet()
+				.forEach(world -> setSlot(world, null));
 		attached.clear();
 	}
 }
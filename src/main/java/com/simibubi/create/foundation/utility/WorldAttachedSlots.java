@@ -0,0 +1,14 @@
+package com.simibubi.create.foundation.utility;
+
+/**
+ * Implemented on {@link net.minecraft.world.level.Level} by a mixin. Holds the
+ * entries of every {@link WorldAttached} for that level, indexed by the
+ * WorldAttached, so looking them up needs no map.
+ */
+public interface WorldAttachedSlots {
+
+	Object[] getWorldAttachedSlots();
+
+	void setWorldAttachedSlots(Object[] slots);
+
+}
@@ -29,6 +29,7 @@ public class AllCommands {
 				.then(FabulousWarningCommand.register())
 				.then(OverlayConfigCommand.register())
 				.then(DumpRailwaysCommand.register())
+				.then(PerfCommand.register())
 				.then(FixLightingCommand.register())
 				.then(DebugInfoCommand.register())
 				.then(HighlightCommand.register())
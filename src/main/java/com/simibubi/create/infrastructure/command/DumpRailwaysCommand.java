@@ -39,7 +39,8 @@ public class DumpRailwaysCommand {
 					(s, f) -> source.sendSuccess(Components.literal(s).withStyle(st -> st.withColor(f)), false),
 					(c) -> source.sendSuccess(c, false));
 				return 1;
-			});
+			})
+			.then(RailwayTelemetryCommand.register());
 	}
 
 	static void fillReport(ServerLevel level, Vec3 location, BiConsumer<String, Integer> chat,
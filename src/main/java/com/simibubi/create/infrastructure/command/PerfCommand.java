@@ -0,0 +1,145 @@
+package com.simibubi.create.infrastructure.command;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import com.mojang.brigadier.arguments.IntegerArgumentType;
+import com.mojang.brigadier.builder.ArgumentBuilder;
+import com.simibubi.create.Create;
+import com.simibubi.create.foundation.utility.Components;
+import com.simibubi.create.infrastructure.profiler.NetworkProfiler;
+import com.simibubi.create.infrastructure.profiler.NetworkReport;
+import com.simibubi.create.infrastructure.profiler.ProfileReport;
+import com.simibubi.create.infrastructure.profiler.ProfileReport.Entry;
+import com.simibubi.create.infrastructure.profiler.ProfileReport.LocationEntry;
+import com.simibubi.create.infrastructure.profiler.SubsystemProfiler;
+
+import net.minecraft.ChatFormatting;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+
+public class PerfCommand {
+
+	private static final int DEFAULT_SECONDS = 10;
+	private static final int TOP_ENTRIES = 5;
+	private static final int TOP_LOCATIONS = 10;
+	private static final int TOP_PACKETS = 8;
+
+	static ArgumentBuilder<CommandSourceStack, ?> register() {
+		return Commands.literal("perf")
+			.requires(cs -> cs.hasPermission(2))
+			.executes(ctx -> startSample(ctx.getSource(), DEFAULT_SECONDS))
+			.then(Commands.argument("seconds", IntegerArgumentType.integer(1, 300))
+				.executes(ctx -> startSample(ctx.getSource(), IntegerArgumentType.getInteger(ctx, "seconds"))))
+			.then(Commands.literal("net")
+				.executes(ctx -> startNetworkSample(ctx.getSource(), DEFAULT_SECONDS))
+				.then(Commands.argument("seconds", IntegerArgumentType.integer(1, 300))
+					.executes(ctx -> startNetworkSample(ctx.getSource(), IntegerArgumentType.getInteger(ctx, "seconds")))));
+	}
+
+	private static int startSample(CommandSourceStack source, int seconds) {
+		if (!SubsystemProfiler.startSample(seconds * 20, report -> printReport(source, report))) {
+			source.sendFailure(Components.literal("A sample is already running"));
+			return 0;
+		}
+		source.sendSuccess(Components.literal("Sampling Create subsystems for " + seconds + " seconds..."), true);
+		return 1;
+	}
+
+	private static int startNetworkSample(CommandSourceStack source, int seconds) {
+		if (!NetworkProfiler.startSample(seconds * 20, report -> printNetworkReport(source, report))) {
+			source.sendFailure(Components.literal("A network sample is already running"));
+			return 0;
+		}
+		source.sendSuccess(Components.literal("Sampling Create network traffic for " + seconds + " seconds..."), true);
+		return 1;
+	}
+
+	private static void printReport(CommandSourceStack source, ProfileReport report) {
+		send(source, "-+------<< Create Subsystems over " + report.getTicks() + " ticks >>------+-",
+			ChatFormatting.WHITE);
+		printEntries(source, report, "Subsystems", report.getSubsystems());
+		printEntries(source, report, "Block Entity Types", report.getBlockEntityTypes());
+
+		List<LocationEntry> locations = report.getLocations();
+		if (!locations.isEmpty()) {
+			send(source, "Top Locations:", ChatFormatting.GOLD);
+			for (LocationEntry entry : locations.subList(0, Math.min(TOP_LOCATIONS, locations.size())))
+				send(source, String.format(" %s at [%d, %d, %d] in %s: %.3f ms/tick", entry.source(), entry.pos()
+					.getX(),
+					entry.pos()
+						.getY(),
+					entry.pos()
+						.getZ(),
+					entry.dimension(), report.msPerTick(entry.nanos())), ChatFormatting.GRAY);
+		}
+
+		try {
+			Path path = report.export();
+			send(source, "Full report written to " + path, ChatFormatting.WHITE);
+		} catch (IOException e) {
+			Create.LOGGER.error("Failed to export Create subsystem profile", e);
+			source.sendFailure(Components.literal("Could not write the report: " + e.getMessage()));
+		}
+	}
+
+	private static void printNetworkReport(CommandSourceStack source, NetworkReport report) {
+		send(source, "-+------<< Create Network Traffic over " + report.getTicks() + " ticks >>------+-",
+			ChatFormatting.WHITE);
+		send(source, "Packets: " + report.describe(report.getPackets()), ChatFormatting.GOLD);
+		for (NetworkReport.Entry entry : report.getPackets()
+			.subList(0, Math.min(TOP_PACKETS, report.getPackets()
+				.size())))
+			send(source, " " + entry.name() + ": " + report.describe(entry.bytes(), entry.packets()),
+				ChatFormatting.GRAY);
+
+		send(source, "Railway Sync: " + report.describe(report.getRailwayPackets()), ChatFormatting.GOLD);
+
+		send(source, "Block Entity Syncs: " + report.describe(report.getBlockEntityTypes()), ChatFormatting.GOLD);
+		for (NetworkReport.Entry entry : report.getBlockEntityTypes()
+			.subList(0, Math.min(TOP_ENTRIES, report.getBlockEntityTypes()
+				.size())))
+			send(source, String.format(" %s: %s, %.1f sendData/s", entry.name(),
+				report.describe(entry.bytes(), entry.packets()), report.perSecond(entry.requests())),
+				ChatFormatting.GRAY);
+
+		List<NetworkReport.LocationEntry> blockEntities = report.getBlockEntities();
+		if (!blockEntities.isEmpty()) {
+			send(source, "Loudest Block Entities:", ChatFormatting.GOLD);
+			for (NetworkReport.LocationEntry entry : blockEntities.subList(0,
+				Math.min(TOP_LOCATIONS, blockEntities.size())))
+				send(source, String.format(" %s at [%d, %d, %d] in %s: %s", entry.type(), entry.pos()
+					.getX(),
+					entry.pos()
+						.getY(),
+					entry.pos()
+						.getZ(),
+					entry.dimension(), report.describe(entry.bytes(), entry.packets())), ChatFormatting.GRAY);
+		}
+
+		try {
+			Path path = report.export();
+			send(source, "Full report written to " + path, ChatFormatting.WHITE);
+		} catch (IOException e) {
+			Create.LOGGER.error("Failed to export Create network profile", e);
+			source.sendFailure(Components.literal("Could not write the report: " + e.getMessage()));
+		}
+	}
+
+	private static void printEntries(CommandSourceStack source, ProfileReport report, String title,
+		List<Entry> entries) {
+		if (entries.isEmpty())
+			return;
+		send(source, title + ":", ChatFormatting.GOLD);
+		for (Entry entry : entries.subList(0, Math.min(TOP_ENTRIES, entries.size())))
+			send(source, String.format(" %s: %.3f ms/tick, %.1f calls/tick", entry.name(),
+				report.msPerTick(entry.nanos()), (double) entry.calls() / report.getTicks()), ChatFormatting.GRAY);
+	}
+
+	private static void send(CommandSourceStack source, String text, ChatFormatting color) {
+		source.sendSuccess(Components.literal(text)
+			.withStyle(color), false);
+	}
+
+}
@@ -0,0 +1,106 @@
+package com.simibubi.create.infrastructure.command;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import com.mojang.brigadier.builder.ArgumentBuilder;
+import com.simibubi.create.Create;
+import com.simibubi.create.content.trains.GlobalRailwayManager;
+import com.simibubi.create.content.trains.RailwayTelemetry;
+import com.simibubi.create.content.trains.RailwayTelemetry.GraphStats;
+import com.simibubi.create.content.trains.RailwayTelemetry.TrainStats;
+import com.simibubi.create.content.trains.graph.TrackGraph;
+import com.simibubi.create.foundation.utility.Components;
+
+import net.minecraft.ChatFormatting;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+
+public class RailwayTelemetryCommand {
+
+	private static final int TOP_ENTRIES = 5;
+
+	static ArgumentBuilder<CommandSourceStack, ?> register() {
+		return Commands.literal("telemetry")
+			.requires(cs -> cs.hasPermission(2))
+			.executes(ctx -> {
+				printTelemetry(ctx.getSource());
+				return 1;
+			})
+			.then(Commands.literal("export")
+				.executes(ctx -> export(ctx.getSource())))
+			.then(Commands.literal("reset")
+				.executes(ctx -> {
+					Create.RAILWAYS.telemetry.reset();
+					ctx.getSource()
+						.sendSuccess(Components.literal("Railway telemetry was reset"), true);
+					return 1;
+				}));
+	}
+
+	private static void printTelemetry(CommandSourceStack source) {
+		GlobalRailwayManager railways = Create.RAILWAYS;
+		RailwayTelemetry telemetry = railways.telemetry;
+
+		send(source, "-+------<< Railway Telemetry over " + telemetry.getTicks() + " ticks >>------+-",
+			ChatFormatting.WHITE);
+
+		List<Map.Entry<UUID, TrainStats>> trains = telemetry.getTrains();
+		if (!trains.isEmpty()) {
+			send(source, "Most Expensive Trains:", ChatFormatting.GOLD);
+			for (Map.Entry<UUID, TrainStats> entry : trains.subList(0, Math.min(TOP_ENTRIES, trains.size()))) {
+				TrainStats stats = entry.getValue();
+				send(source, String.format(" %s (%s): %.3f ms/tick", stats.name, entry.getKey()
+					.toString()
+					.substring(0, 5), telemetry.msPerTick(stats.tickNanos)), ChatFormatting.WHITE);
+				send(source, String.format("  -> %d searches, %.3f ms max, %d edges visited, frontier up to %d",
+					stats.searches, stats.maxSearchNanos / 1_000_000d, stats.edgesVisited, stats.maxFrontier),
+					ChatFormatting.GRAY);
+				send(source, String.format("  -> %d signal waits over %d ticks, %d collision checks",
+					stats.signalWaits, stats.ticksWaitingForSignal, stats.collisionChecks), ChatFormatting.GRAY);
+			}
+		}
+
+		List<TrackGraph> graphs = railways.trackNetworks.values()
+			.stream()
+			.sorted(Comparator.comparingLong((TrackGraph graph) -> telemetry.getGraph(graph.id).intersectionNanos)
+				.reversed())
+			.limit(TOP_ENTRIES)
+			.toList();
+		if (!graphs.isEmpty()) {
+			send(source, "Most Expensive Graphs:", ChatFormatting.GOLD);
+			for (TrackGraph graph : graphs) {
+				GraphStats stats = telemetry.getGraph(graph.id);
+				send(source, String.format(" %s: %d nodes, %d edges, intersections %.3f ms/tick (%.3f ms max)",
+					graph.id.toString()
+						.substring(0, 5),
+					graph.getNodes()
+						.size(),
+					graph.getEdgeCount(), telemetry.msPerTick(stats.intersectionNanos),
+					stats.maxIntersectionNanos / 1_000_000d), ChatFormatting.GRAY);
+			}
+		}
+	}
+
+	private static int export(CommandSourceStack source) {
+		try {
+			for (Path path : Create.RAILWAYS.telemetry.exportCsv(Create.RAILWAYS.trackNetworks.values()))
+				send(source, "Written to " + path, ChatFormatting.WHITE);
+			return 1;
+		} catch (IOException e) {
+			Create.LOGGER.error("Failed to export railway telemetry", e);
+			source.sendFailure(Components.literal("Could not write the telemetry: " + e.getMessage()));
+			return 0;
+		}
+	}
+
+	private static void send(CommandSourceStack source, String text, ChatFormatting color) {
+		source.sendSuccess(Components.literal(text)
+			.withStyle(color), false);
+	}
+
+}
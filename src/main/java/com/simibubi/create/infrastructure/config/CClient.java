@@ -97,6 +97,11 @@ public class CClient extends ConfigBase {
 	public final ConfigBool showTrackGraphOnF3 = b(false, "showTrackGraphOnF3", Comments.showTrackGraphOnF3);
 	public final ConfigBool showExtendedTrackGraphOnF3 = b(false, "showExtendedTrackGraphOnF3", Comments.showExtendedTrackGraphOnF3);
 
+	//buffer cache group
+	public final ConfigGroup bufferCache = group(1, "bufferCache", Comments.bufferCache);
+	public final ConfigInt bufferCacheLimit = i(64, 0, 4096, "compartmentLimit", Comments.bufferCacheLimit);
+	public final ConfigInt contraptionBufferCacheLimit = i(256, 0, 4096, "contraptionLimit", Comments.contraptionBufferCacheLimit);
+
 	@Override
 	public String getName() {
 		return "client";
@@ -179,6 +184,17 @@ public class CClient extends ConfigBase {
 		static String fluidFogSettings = "Configure your vision range when submerged in Create's custom fluids";
 		static String honeyTransparencyMultiplier = "The vision range through honey will be multiplied by this factor";
 		static String chocolateTransparencyMultiplier = "The vision range though chocolate will be multiplied by this factor";
+		static String bufferCache = "Limits on the vertex memory of cached models used by non-instanced rendering";
+		static String[] bufferCacheLimit = new String[]{
+				"[in Megabytes]",
+				"How much vertex memory each kind of cached model may use before the least recently used ones are dropped",
+				"Set to 0 for no limit"
+		};
+		static String[] contraptionBufferCacheLimit = new String[]{
+				"[in Megabytes]",
+				"The same limit for the models of moving contraptions and ponder scenes",
+				"Set to 0 for no limit"
+		};
 	}
 
 }
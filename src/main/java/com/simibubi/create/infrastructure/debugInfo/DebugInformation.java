@@ -13,12 +13,21 @@ import com.jozufozu.flywheel.Flywheel;
 import com.jozufozu.flywheel.backend.Backend;
 import com.mojang.blaze3d.platform.GlUtil;
 import com.simibubi.create.Create;
+import com.simibubi.create.CreateClient;
+import com.simibubi.create.content.contraptions.ContraptionHandler;
+import com.simibubi.create.foundation.blockEntity.BlockEntitySleepScheduler;
 import com.simibubi.create.foundation.mixin.accessor.SystemReportAccessor;
 import com.simibubi.create.infrastructure.debugInfo.element.DebugInfoSection;
 import com.simibubi.create.infrastructure.debugInfo.element.InfoElement;
 import com.simibubi.create.infrastructure.debugInfo.element.InfoEntry;
+import com.simibubi.create.infrastructure.profiler.NetworkProfiler;
+import com.simibubi.create.infrastructure.profiler.NetworkReport;
+import com.simibubi.create.infrastructure.profiler.ProfileReport;
+import com.simibubi.create.infrastructure.profiler.SubsystemProfiler;
+import com.simibubi.create.infrastructure.profiler.SubsystemProfiler.Subsystem;
 
 import io.github.fabricators_of_create.porting_lib.util.EnvExecutor;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.loader.api.FabricLoader;
 import net.fabricmc.loader.api.metadata.ModMetadata;
@@ -26,6 +35,8 @@ import net.minecraft.SharedConstants;
 import net.minecraft.SystemReport;
 import net.minecraft.Util;
 import net.minecraft.client.Minecraft;
+import net.minecraft.core.Registry;
+import net.minecraft.world.level.block.entity.BlockEntityType;
 import oshi.SystemInfo;
 
 /**
@@ -80,6 +91,14 @@ public class DebugInformation {
 					.put("OpenGL Version", GlUtil::getOpenGLVersion)
 					.put("Graphics Mode", () -> Minecraft.getInstance().options.graphicsMode.getKey().toString())
 					.buildTo(DebugInformation::registerClientInfo);
+
+			DebugInfoSection.Builder bufferCache = DebugInfoSection.builder("Buffer Cache");
+			CreateClient.BUFFER_CACHE.getCompartments().forEach((compartment, cache) -> bufferCache
+					.put(compartment.getName(), () -> String.format("%d buffers, %.1f of %s MB, %d hits, %d misses, %d evictions",
+							cache.getSize(), cache.getBytes() / (1024d * 1024d),
+							cache.getMegabyteLimit() == 0 ? "unlimited" : String.valueOf(cache.getMegabyteLimit()),
+							cache.getHits(), cache.getMisses(), cache.getEvictions())));
+			bufferCache.buildTo(DebugInformation::registerClientInfo);
 		});
 
 		DebugInfoSection.builder("System Information")
@@ -92,6 +111,63 @@ public class DebugInformation {
 				.putAll(listAllGraphicsCards())
 				.buildTo(DebugInformation::registerBothInfo);
 
+		DebugInfoSection.builder("Contraption Collisions")
+				.put("Contraptions", player -> player == null ? null
+						: String.valueOf(ContraptionHandler.collisionBroadphase.get(player.level).getContraptionCount()))
+				.put("Entity Queries", player -> player == null ? null
+						: String.valueOf(ContraptionHandler.collisionBroadphase.get(player.level).getEntityQueryCount()))
+				.put("Collision Pairs", player -> player == null ? null
+						: String.valueOf(ContraptionHandler.collisionBroadphase.get(player.level).getPairCount()))
+				.buildTo(DebugInformation::registerBothInfo);
+
+		DebugInfoSection.builder("Sleeping Block Entities")
+				.put("Awake", player -> player == null ? null
+						: formatCountsByType(BlockEntitySleepScheduler.get(player.level).getAwakeCounts()))
+				.put("Asleep", player -> player == null ? null
+						: formatCountsByType(BlockEntitySleepScheduler.get(player.level).getSleepingCounts()))
+				.buildTo(DebugInformation::registerServerInfo);
+
+		DebugInfoSection.Builder subsystemTimings = DebugInfoSection.builder("Subsystem Timings")
+				.put("Last Sample", () -> {
+					ProfileReport report = SubsystemProfiler.getLastReport();
+					return report == null ? "none, run /create perf" : report.getTicks() + " ticks";
+				});
+		for (Subsystem subsystem : Subsystem.values())
+			subsystemTimings.put(subsystem.getDisplayName(), () -> {
+				ProfileReport report = SubsystemProfiler.getLastReport();
+				return report == null ? null : report.describe(subsystem.getDisplayName());
+			});
+		subsystemTimings.buildTo(DebugInformation::registerServerInfo);
+
+		DebugInfoSection.builder("Network Traffic")
+				.put("Last Sample", () -> {
+					NetworkReport report = NetworkProfiler.getLastReport();
+					return report == null ? "none, run /create perf net" : report.getTicks() + " ticks";
+				})
+				.put("Packets", () -> {
+					NetworkReport report = NetworkProfiler.getLastReport();
+					return report == null ? null : report.describe(report.getPackets());
+				})
+				.put("Railway Sync", () -> {
+					NetworkReport report = NetworkProfiler.getLastReport();
+					return report == null ? null : report.describe(report.getRailwayPackets());
+				})
+				.put("Block Entity Syncs", () -> {
+					NetworkReport report = NetworkProfiler.getLastReport();
+					return report == null ? null : report.describe(report.getBlockEntityTypes());
+				})
+				.put("Loudest Block Entity", () -> {
+					NetworkReport report = NetworkProfiler.getLastReport();
+					if (report == null || report.getBlockEntities()
+							.isEmpty())
+						return null;
+					NetworkReport.LocationEntry loudest = report.getBlockEntities()
+							.get(0);
+					return loudest.type() + " at " + loudest.pos()
+							.toShortString() + ", " + report.describe(loudest.bytes(), loudest.packets());
+				})
+				.buildTo(DebugInformation::registerServerInfo);
+
 		DebugInfoSection.builder("Other Mods")
 				.putAll(listAllOtherMods())
 				.buildTo(DebugInformation::registerBothInfo);
@@ -117,6 +193,16 @@ public class DebugInformation {
 		return mods;
 	}
 
+	public static String formatCountsByType(Object2IntMap<BlockEntityType<?>> counts) {
+		if (counts.isEmpty())
+			return "none";
+		return counts.object2IntEntrySet()
+				.stream()
+				.map(e -> Registry.BLOCK_ENTITY_TYPE.getKey(e.getKey()) + ": " + e.getIntValue())
+				.sorted()
+				.collect(Collectors.joining(", "));
+	}
+
 	public static Collection<InfoElement> listAllGraphicsCards() {
 		List<InfoElement> cards = new ArrayList<>();
 		for (int i = 0; i < 10; i++) { // there won't be more than 10, right? right??
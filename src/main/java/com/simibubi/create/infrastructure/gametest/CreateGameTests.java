@@ -1,11 +1,14 @@
 package com.simibubi.create.infrastructure.gametest;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 
 import com.simibubi.create.infrastructure.gametest.tests.TestContraptions;
 import com.simibubi.create.infrastructure.gametest.tests.TestFluids;
 import com.simibubi.create.infrastructure.gametest.tests.TestItems;
 import com.simibubi.create.infrastructure.gametest.tests.TestMisc;
+import com.simibubi.create.infrastructure.gametest.tests.TestPerformance;
 import com.simibubi.create.infrastructure.gametest.tests.TestProcessing;
 
 import net.minecraft.gametest.framework.GameTestGenerator;
@@ -20,8 +23,16 @@ public class CreateGameTests {
 			TestProcessing.class
 	};
 
+	// Tick time budgets depend on the machine, so these only run when asked for
+	private static final Class<?>[] performanceTestHolders = {
+			TestPerformance.class
+	};
+
 	@GameTestGenerator
 	public static Collection<TestFunction> generateTests() {
-		return CreateTestFunction.getTestsFrom(testHolders);
+		List<TestFunction> tests = new ArrayList<>(CreateTestFunction.getTestsFrom(testHolders));
+		if (Boolean.getBoolean("create.perf.tests"))
+			tests.addAll(CreateTestFunction.getTestsFrom(performanceTestHolders));
+		return tests;
 	}
 }
@@ -0,0 +1,118 @@
+package com.simibubi.create.infrastructure.gametest;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import com.google.gson.JsonObject;
+import com.simibubi.create.Create;
+
+import net.fabricmc.loader.api.FabricLoader;
+import net.minecraft.server.MinecraftServer;
+
+/**
+ * Records server tick times while a performance test runs, and fails the test
+ * if they exceed its budget. Every test waits {@link #WARMUP_TICKS} for its
+ * setup to settle, then samples {@link #WINDOW_TICKS}.
+ * <br>
+ * Budgets can be overridden with the system properties
+ * {@code create.perf.budget.<test>.mean} and {@code create.perf.budget.<test>.p99}
+ * in milliseconds, or scaled as a whole with {@code create.perf.budgetScale} on
+ * slower machines. Reports are written to {@code create.perf.reports}, or to
+ * {@code perf-reports} in the game directory if it is not set.
+ */
+public class TickTimeRecorder {
+
+	public static final int WARMUP_TICKS = 5 * CreateGameTestHelper.TICKS_PER_SECOND;
+	public static final int WINDOW_TICKS = CreateGameTestHelper.TEN_SECONDS;
+	public static final int TIMEOUT = WARMUP_TICKS + WINDOW_TICKS + CreateGameTestHelper.TEN_SECONDS;
+
+	private final CreateGameTestHelper helper;
+	private final String name;
+	private final double meanBudget;
+	private final double p99Budget;
+	private final long[] samples = new long[WINDOW_TICKS];
+	private int recorded;
+
+	private TickTimeRecorder(CreateGameTestHelper helper, String name, double meanBudget, double p99Budget) {
+		this.helper = helper;
+		this.name = name;
+		double scale = Double.parseDouble(System.getProperty("create.perf.budgetScale", "1"));
+		this.meanBudget = budget("mean", meanBudget) * scale;
+		this.p99Budget = budget("p99", p99Budget) * scale;
+	}
+
+	/**
+	 * Starts recording once the warmup has passed. The test succeeds when the
+	 * window is over and both the mean and the 99th percentile tick time stayed
+	 * within their budgets.
+	 */
+	public static void measure(CreateGameTestHelper helper, String name, double meanBudgetMs, double p99BudgetMs) {
+		TickTimeRecorder recorder = new TickTimeRecorder(helper, name, meanBudgetMs, p99BudgetMs);
+		helper.onEachTick(recorder::tick);
+	}
+
+	private void tick() {
+		if (recorded >= WINDOW_TICKS || helper.getTick() <= WARMUP_TICKS)
+			return;
+
+		// the current tick is still running, so take the last finished one
+		MinecraftServer server = helper.getLevel()
+			.getServer();
+		samples[recorded++] = server.tickTimes[(server.getTickCount() + 99) % 100];
+		if (recorded < WINDOW_TICKS)
+			return;
+
+		long[] sorted = samples.clone();
+		Arrays.sort(sorted);
+		double mean = toMs(Arrays.stream(sorted)
+			.sum()) / sorted.length;
+		double p99 = toMs(sorted[(int) Math.ceil(sorted.length * .99) - 1]);
+		double max = toMs(sorted[sorted.length - 1]);
+		boolean passed = mean <= meanBudget && p99 <= p99Budget;
+		writeReport(mean, p99, max, passed);
+
+		if (!passed)
+			helper.fail("Tick time over budget: mean %.2f ms (budget %.2f), p99 %.2f ms (budget %.2f)"
+				.formatted(mean, meanBudget, p99, p99Budget));
+		helper.succeed();
+	}
+
+	private void writeReport(double mean, double p99, double max, boolean passed) {
+		JsonObject json = new JsonObject();
+		json.addProperty("test", name);
+		json.addProperty("ticks", samples.length);
+		json.addProperty("meanMs", mean);
+		json.addProperty("p99Ms", p99);
+		json.addProperty("maxMs", max);
+		json.addProperty("meanBudgetMs", meanBudget);
+		json.addProperty("p99BudgetMs", p99Budget);
+		json.addProperty("passed", passed);
+
+		String directory = System.getProperty("create.perf.reports");
+		Path path = directory != null ? Paths.get(directory) : FabricLoader.getInstance()
+			.getGameDir()
+			.resolve("perf-reports");
+		try {
+			Files.createDirectories(path);
+			try (Writer writer = Files.newBufferedWriter(path.resolve(name + ".json"))) {
+				Create.GSON.toJson(json, writer);
+			}
+		} catch (IOException e) {
+			Create.LOGGER.error("Failed to write performance report for " + name, e);
+		}
+	}
+
+	private double budget(String key, double fallback) {
+		String value = System.getProperty("create.perf.budget." + name + "." + key);
+		return value == null ? fallback : Double.parseDouble(value);
+	}
+
+	private static double toMs(long nanos) {
+		return nanos / 1_000_000d;
+	}
+
+}
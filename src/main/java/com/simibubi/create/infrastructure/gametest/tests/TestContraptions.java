@@ -6,13 +6,18 @@ import java.util.concurrent.atomic.AtomicInteger;
 import com.simibubi.create.AllBlockEntityTypes;
 import com.simibubi.create.AllBlocks;
 import com.simibubi.create.AllEntityTypes;
+import com.simibubi.create.Create;
 import com.simibubi.create.content.contraptions.AbstractContraptionEntity;
 import com.simibubi.create.content.contraptions.Contraption;
 import com.simibubi.create.content.contraptions.ControlledContraptionEntity;
 import com.simibubi.create.content.contraptions.actors.contraptionControls.ContraptionControlsMovingInteraction;
+import com.simibubi.create.content.contraptions.bearing.BearingBlock;
 import com.simibubi.create.content.contraptions.bearing.MechanicalBearingBlockEntity;
 import com.simibubi.create.content.contraptions.elevator.ElevatorPulleyBlockEntity;
+import com.simibubi.create.content.contraptions.glue.SuperGlueEntity;
 import com.simibubi.create.content.kinetics.transmission.sequencer.SequencedGearshiftBlock;
+import com.simibubi.create.foundation.config.ConfigBase.ConfigInt;
+import com.simibubi.create.infrastructure.config.AllConfigs;
 import com.simibubi.create.infrastructure.gametest.CreateGameTestHelper;
 import com.simibubi.create.infrastructure.gametest.GameTestGroup;
 
@@ -22,6 +27,8 @@ import it.unimi.dsi.fastutil.objects.Object2LongMap;
 import org.apache.commons.lang3.mutable.MutableInt;
 
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.core.Direction.Axis;
 import net.minecraft.gametest.framework.GameTest;
 import net.minecraft.world.InteractionHand;
 import net.minecraft.world.entity.EntityType;
@@ -33,6 +40,10 @@ import net.minecraft.world.level.block.ButtonBlock;
 import net.minecraft.world.level.block.CropBlock;
 import net.minecraft.world.level.block.LeverBlock;
 import net.minecraft.world.level.block.RedstoneLampBlock;
+import net.minecraft.world.level.block.RotatedPillarBlock;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.levelgen.structure.templatesystem.StructureTemplate.StructureBlockInfo;
+import net.minecraft.world.phys.AABB;
 
 @GameTestGroup(path = "contraptions")
 public class TestContraptions {
@@ -230,6 +241,73 @@ public class TestContraptions {
 		});
 	}
 
+	@GameTest(template = "bulk_assembly", timeoutTicks = CreateGameTestHelper.TEN_SECONDS)
+	public static void bulkAssembly(CreateGameTestHelper helper) {
+		BlockPos bearingPos = new BlockPos(11, 1, 11);
+		BlockPos from = new BlockPos(1, 2, 1);
+		BlockPos to = new BlockPos(21, 24, 21);
+		List<BlockPos> structure = BlockPos.betweenClosedStream(from, to)
+			.map(BlockPos::immutable)
+			.toList();
+		// a block with a non-default state, which has to survive the round trip
+		BlockPos logPos = new BlockPos(11, 12, 11);
+		BlockState log = Blocks.OAK_LOG.defaultBlockState()
+			.setValue(RotatedPillarBlock.AXIS, Axis.X);
+
+		helper.setBlock(bearingPos, AllBlocks.MECHANICAL_BEARING.getDefaultState()
+			.setValue(BearingBlock.FACING, Direction.UP));
+		structure.forEach(pos -> helper.setBlock(pos, AllBlocks.ANDESITE_CASING.getDefaultState()));
+		helper.setBlock(logPos, log);
+		helper.getLevel()
+			.addFreshEntity(new SuperGlueEntity(helper.getLevel(),
+				new AABB(helper.absolutePos(from), helper.absolutePos(to).offset(1, 1, 1))));
+
+		helper.runAtTickTime(5, () -> {
+			MechanicalBearingBlockEntity bearing =
+				helper.getBlockEntity(AllBlockEntityTypes.MECHANICAL_BEARING.get(), bearingPos);
+			ConfigInt maxBlocksMoved = AllConfigs.server().kinetics.maxBlocksMoved;
+			int previousLimit = maxBlocksMoved.get();
+			maxBlocksMoved.set(Math.max(previousLimit, structure.size()));
+			try {
+				long start = System.nanoTime();
+				bearing.assemble();
+				long assembled = System.nanoTime();
+				if (bearing.getMovedContraption() == null)
+					helper.fail("Contraption not assembled");
+				Contraption contraption = bearing.getMovedContraption()
+					.getContraption();
+				int moved = contraption.getBlocks()
+					.size();
+				if (moved != structure.size())
+					helper.fail("Expected " + structure.size() + " blocks to be moved, got " + moved);
+				StructureBlockInfo movedLog = contraption.getBlocks()
+					.get(helper.absolutePos(logPos)
+						.subtract(contraption.anchor));
+				if (movedLog == null || movedLog.state != log)
+					helper.fail("Log not moved with its state");
+				helper.assertBlockPresent(Blocks.AIR, to);
+				helper.assertBlockPresent(Blocks.AIR, logPos);
+
+				bearing.disassemble();
+				long disassembled = System.nanoTime();
+				Create.LOGGER.info("Bulk assembly of {} blocks: assembled in {}ms, disassembled in {}ms",
+					structure.size(), (assembled - start) / 1_000_000, (disassembled - assembled) / 1_000_000);
+			} finally {
+				maxBlocksMoved.set(previousLimit);
+			}
+		});
+
+		helper.succeedWhen(() -> {
+			helper.assertSecondsPassed(1);
+			structure.forEach(pos -> {
+				if (!pos.equals(logPos))
+					helper.assertBlockPresent(AllBlocks.ANDESITE_CASING.get(), pos);
+			});
+			helper.assertBlockState(logPos, state -> state == log, () -> "Log lost its state");
+			helper.assertBlockPresent(AllBlocks.MECHANICAL_BEARING.get(), bearingPos);
+		});
+	}
+
 	// FIXME: trains do not enjoy being loaded in structures
 	// https://gist.github.com/TropheusJ/f2d0a7df48360d2e078d0987c115c6ef
 //	@GameTest(template = "train_observer")
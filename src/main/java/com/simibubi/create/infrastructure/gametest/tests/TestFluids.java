@@ -158,6 +158,19 @@ public class TestFluids {
 		});
 	}
 
+	@GameTest(template = "large_pipe_grid", timeoutTicks = CreateGameTestHelper.TEN_SECONDS)
+	public static void largePipeGrid(CreateGameTestHelper helper) {
+		BlockPos pumpPos = new BlockPos(2, 2, 5);
+		BlockPos outputTankPos = new BlockPos(12, 2, 5);
+		helper.flipBlock(pumpPos);
+
+		helper.succeedWhen(() -> {
+			FluidStack contents = helper.getTankContents(outputTankPos);
+			if (contents.isEmpty())
+				helper.fail("Fluid did not make it through the grid");
+		});
+	}
+
 	@GameTest(template = "large_waterwheel", timeoutTicks = CreateGameTestHelper.TEN_SECONDS)
 	public static void largeWaterwheel(CreateGameTestHelper helper) {
 		BlockPos wheel = new BlockPos(4, 3, 2);
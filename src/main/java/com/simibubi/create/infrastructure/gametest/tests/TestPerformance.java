@@ -0,0 +1,143 @@
+package com.simibubi.create.infrastructure.gametest.tests;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.simibubi.create.AllBlockEntityTypes;
+import com.simibubi.create.AllBlocks;
+import com.simibubi.create.content.fluids.pipes.FluidPipeBlock;
+import com.simibubi.create.content.fluids.pump.PumpBlock;
+import com.simibubi.create.content.fluids.tank.CreativeFluidTankBlockEntity;
+import com.simibubi.create.content.fluids.tank.CreativeFluidTankBlockEntity.CreativeSmartFluidTank;
+import com.simibubi.create.content.kinetics.base.DirectionalAxisKineticBlock;
+import com.simibubi.create.content.kinetics.base.RotatedPillarKineticBlock;
+import com.simibubi.create.content.kinetics.belt.transport.TransportedItemStack;
+import com.simibubi.create.content.kinetics.motor.CreativeMotorBlock;
+import com.simibubi.create.content.logistics.depot.DepotBehaviour;
+import com.simibubi.create.foundation.blockEntity.behaviour.scrollValue.ScrollValueBehaviour;
+import com.simibubi.create.infrastructure.gametest.CreateGameTestHelper;
+import com.simibubi.create.infrastructure.gametest.GameTestGroup;
+import com.simibubi.create.infrastructure.gametest.TickTimeRecorder;
+
+import io.github.fabricators_of_create.porting_lib.util.FluidStack;
+import net.fabricmc.fabric.api.transfer.v1.fluid.FluidConstants;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.core.Direction.Axis;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.material.Fluids;
+
+/**
+ * Large setups that are generated on top of empty templates and left running,
+ * failing if the server tick time goes over budget. See
+ * {@link TickTimeRecorder} for how they are measured and configured. Each test
+ * has its own batch so that they do not share tick time.
+ * <br>
+ * Only registered when the system property {@code create.perf.tests} is set,
+ * which the gametest run does when Gradle is given {@code -PperfTests}.
+ */
+@GameTestGroup(path = "perf")
+public class TestPerformance {
+	@GameTest(template = "kinetic_tree", timeoutTicks = TickTimeRecorder.TIMEOUT, batch = "perf_kinetic_tree")
+	public static void kineticTree(CreateGameTestHelper helper) {
+		// 71 x 71 small cogwheels, all meshing with their neighbours
+		BlockState cog = AllBlocks.COGWHEEL.getDefaultState();
+		for (int x = 0; x < 71; x++)
+			for (int z = 0; z < 71; z++)
+				helper.setBlock(new BlockPos(x, 3, z), cog);
+		helper.setBlock(new BlockPos(35, 2, 35), motor(Direction.UP));
+
+		TickTimeRecorder.measure(helper, "kinetic_tree", 10, 25);
+	}
+
+	@GameTest(template = "pipe_network", timeoutTicks = TickTimeRecorder.TIMEOUT, batch = "perf_pipe_network")
+	public static void pipeNetwork(CreateGameTestHelper helper) {
+		BlockPos source = new BlockPos(1, 2, 0);
+		BlockPos pump = new BlockPos(1, 2, 1);
+		BlockPos target = new BlockPos(44, 2, 47);
+
+		helper.setBlock(source, AllBlocks.CREATIVE_FLUID_TANK.getDefaultState());
+		helper.setBlock(target, AllBlocks.FLUID_TANK.getDefaultState());
+		CreativeFluidTankBlockEntity tank = helper.getBlockEntity(AllBlockEntityTypes.CREATIVE_FLUID_TANK.get(), source);
+		((CreativeSmartFluidTank) tank.getTankInventory())
+			.setContainedFluid(new FluidStack(Fluids.WATER, FluidConstants.BUCKET));
+
+		// 45 x 45 pipes behind the pump, connected like a grid
+		FluidPipeBlock pipe = AllBlocks.FLUID_PIPE.get();
+		List<BlockPos> pipes = new ArrayList<>();
+		for (int x = 0; x < 45; x++)
+			for (int z = 2; z < 47; z++) {
+				BlockPos pos = new BlockPos(x, 2, z);
+				helper.setBlock(pos, pipe.defaultBlockState());
+				pipes.add(pos);
+			}
+		helper.setBlock(pump, AllBlocks.MECHANICAL_PUMP.getDefaultState()
+			.setValue(PumpBlock.FACING, Direction.SOUTH));
+
+		// pipes placed before their neighbours can be left with open ends
+		for (BlockPos pos : pipes)
+			helper.setBlock(pos, pipe.updateBlockState(helper.getBlockState(pos), Direction.SOUTH, null,
+				helper.getLevel(), helper.absolutePos(pos)));
+
+		helper.setBlock(new BlockPos(0, 2, 1), AllBlocks.COGWHEEL.getDefaultState()
+			.setValue(RotatedPillarKineticBlock.AXIS, Axis.Z));
+		helper.setBlock(new BlockPos(0, 2, 0), motor(Direction.SOUTH));
+
+		TickTimeRecorder.measure(helper, "pipe_network", 10, 25);
+	}
+
+	@GameTest(template = "deployer_line", timeoutTicks = TickTimeRecorder.TIMEOUT, batch = "perf_deployer_line")
+	public static void deployerLine(CreateGameTestHelper helper) {
+		// 10 rows of 20 deployers working on depots, one motor per row
+		BlockState deployer = AllBlocks.DEPLOYER.getDefaultState()
+			.setValue(DirectionalAxisKineticBlock.FACING, Direction.DOWN)
+			.setValue(DirectionalAxisKineticBlock.AXIS_ALONG_FIRST_COORDINATE, true);
+		for (int z = 0; z < 10; z++) {
+			for (int x = 1; x <= 20; x++) {
+				BlockPos depot = new BlockPos(x, 2, z);
+				helper.setBlock(depot, AllBlocks.DEPOT.getDefaultState());
+				helper.getBehavior(depot, DepotBehaviour.TYPE)
+					.setHeldItem(new TransportedItemStack(new ItemStack(Items.IRON_INGOT)));
+				helper.setBlock(new BlockPos(x, 4, z), deployer);
+			}
+			helper.setBlock(new BlockPos(0, 4, z), motor(Direction.EAST));
+		}
+
+		TickTimeRecorder.measure(helper, "deployer_line", 15, 35);
+	}
+
+	@GameTest(template = "crusher_array", timeoutTicks = TickTimeRecorder.TIMEOUT, batch = "perf_crusher_array")
+	public static void crusherArray(CreateGameTestHelper helper) {
+		// two rows of 64 wheels spinning against each other, with a controller
+		// forming between every pair
+		BlockState wheel = AllBlocks.CRUSHING_WHEEL.getDefaultState()
+			.setValue(RotatedPillarKineticBlock.AXIS, Axis.X);
+		for (int x = 1; x <= 64; x++) {
+			helper.setBlock(new BlockPos(x, 3, 0), wheel);
+			helper.setBlock(new BlockPos(x, 3, 2), wheel);
+		}
+		BlockPos reversedMotor = new BlockPos(0, 3, 2);
+		helper.setBlock(new BlockPos(0, 3, 0), motor(Direction.EAST));
+		helper.setBlock(reversedMotor, motor(Direction.EAST));
+		helper.getBehavior(reversedMotor, ScrollValueBehaviour.TYPE)
+			.setValue(-16);
+
+		// controllers take no belt input from the side, so items are dropped in
+		helper.onEachTick(() -> {
+			if (helper.getTick() % 20 != 0)
+				return;
+			for (int x = 1; x <= 64; x++)
+				helper.spawnItem(new BlockPos(x, 4, 1), new ItemStack(Items.COBBLESTONE));
+		});
+
+		TickTimeRecorder.measure(helper, "crusher_array", 15, 35);
+	}
+
+	private static BlockState motor(Direction facing) {
+		return AllBlocks.CREATIVE_MOTOR.getDefaultState()
+			.setValue(CreativeMotorBlock.FACING, facing);
+	}
+}
@@ -0,0 +1,176 @@
+package com.simibubi.create.infrastructure.profiler;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import javax.annotation.Nullable;
+
+import com.google.common.io.ByteStreams;
+import com.google.common.io.CountingOutputStream;
+import com.simibubi.create.AllPackets;
+import com.simibubi.create.foundation.networking.SimplePacketBase;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.NbtIo;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.entity.BlockEntityType;
+
+/**
+ * Counts the traffic caused by Create's packets and block entity syncs. Like
+ * the {@link SubsystemProfiler}, nothing is recorded unless a sample is
+ * running, since measuring the size of synced NBT means serialising it a second
+ * time.
+ * <br>
+ * Packets are counted when they are encoded, so a packet sent to several
+ * players only counts once. In singleplayer, packets encoded by the client are
+ * included as well.
+ */
+public class NetworkProfiler {
+
+	private static volatile Sample sample;
+	private static NetworkReport lastReport;
+
+	public static void recordPacket(SimplePacketBase packet, int bytes) {
+		Sample current = sample;
+		if (current == null)
+			return;
+		AllPackets type = AllPackets.byClass(packet.getClass());
+		String name = type == null ? packet.getClass()
+			.getSimpleName() : type.name();
+		synchronized (current) {
+			current.packets.computeIfAbsent(name, $ -> new Traffic())
+				.addPacket(bytes);
+		}
+	}
+
+	/**
+	 * Counts a request to sync a block entity. Several requests in the same tick
+	 * are sent as one packet.
+	 */
+	public static void recordSendData(BlockEntity be) {
+		Sample current = sample;
+		if (current == null)
+			return;
+		synchronized (current) {
+			current.blockEntityTypes.computeIfAbsent(be.getType(), $ -> new Traffic()).requests++;
+			current.blockEntities.computeIfAbsent(Location.of(be), $ -> new Traffic()).requests++;
+		}
+	}
+
+	public static void recordBlockEntitySync(BlockEntity be, @Nullable CompoundTag tag) {
+		if (sample != null)
+			recordBlockEntitySync(be, sizeOf(tag));
+	}
+
+	/**
+	 * @param bytes the size of the sync as written to its packet
+	 */
+	public static void recordBlockEntitySync(BlockEntity be, int bytes) {
+		Sample current = sample;
+		if (current == null)
+			return;
+		synchronized (current) {
+			current.blockEntityTypes.computeIfAbsent(be.getType(), $ -> new Traffic())
+				.addPacket(bytes);
+			current.blockEntities.computeIfAbsent(Location.of(be), $ -> new Traffic())
+				.addPacket(bytes);
+		}
+	}
+
+	/**
+	 * Starts recording for the given amount of server ticks.
+	 *
+	 * @return false if a sample is already running
+	 */
+	public static boolean startSample(int ticks, Consumer<NetworkReport> onFinish) {
+		if (sample != null)
+			return false;
+		sample = new Sample(ticks, onFinish);
+		return true;
+	}
+
+	public static boolean isSampling() {
+		return sample != null;
+	}
+
+	public static void serverTick() {
+		Sample current = sample;
+		if (current == null)
+			return;
+		current.ticks++;
+		if (current.ticks < current.duration)
+			return;
+		sample = null;
+		synchronized (current) {
+			lastReport = NetworkReport.of(current);
+		}
+		current.onFinish.accept(lastReport);
+	}
+
+	@Nullable
+	public static NetworkReport getLastReport() {
+		return lastReport;
+	}
+
+	private static int sizeOf(@Nullable CompoundTag tag) {
+		if (tag == null)
+			return 0;
+		CountingOutputStream out = new CountingOutputStream(ByteStreams.nullOutputStream());
+		try {
+			NbtIo.write(tag, new DataOutputStream(out));
+		} catch (IOException e) {
+			return 0;
+		}
+		return (int) out.getCount();
+	}
+
+	static class Sample {
+
+		final int duration;
+		final Consumer<NetworkReport> onFinish;
+		final long startedAt;
+		int ticks;
+
+		final Map<String, Traffic> packets = new HashMap<>();
+		final Map<BlockEntityType<?>, Traffic> blockEntityTypes = new HashMap<>();
+		final Map<Location, Traffic> blockEntities = new HashMap<>();
+
+		Sample(int duration, Consumer<NetworkReport> onFinish) {
+			this.duration = duration;
+			this.onFinish = onFinish;
+			this.startedAt = System.currentTimeMillis();
+		}
+
+	}
+
+	static class Traffic {
+
+		int requests;
+		int packets;
+		long bytes;
+
+		void addPacket(int size) {
+			packets++;
+			bytes += size;
+		}
+
+	}
+
+	record Location(String dimension, BlockPos pos, BlockEntityType<?> type) {
+
+		static Location of(BlockEntity be) {
+			return new Location(be.getLevel() == null ? "unknown"
+				: be.getLevel()
+					.dimension()
+					.location()
+					.toString(),
+				be.getBlockPos(), be.getType());
+		}
+
+	}
+
+}
@@ -0,0 +1,199 @@
+package com.simibubi.create.infrastructure.profiler;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.simibubi.create.AllPackets;
+import com.simibubi.create.Create;
+import com.simibubi.create.infrastructure.profiler.NetworkProfiler.Location;
+import com.simibubi.create.infrastructure.profiler.NetworkProfiler.Sample;
+import com.simibubi.create.infrastructure.profiler.NetworkProfiler.Traffic;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Registry;
+import net.minecraft.world.level.block.entity.BlockEntityType;
+
+/**
+ * The outcome of a {@link NetworkProfiler} sample, sorted by bytes sent.
+ */
+public class NetworkReport {
+
+	/**
+	 * Carriage positions and track graph changes, which are sent in their own
+	 * packets.
+	 */
+	public static final Set<String> RAILWAY_PACKETS =
+		Set.of(AllPackets.CARRIAGE_DATA_UPDATE.name(), AllPackets.SYNC_RAIL_GRAPH.name());
+
+	private final long startedAt;
+	private final int ticks;
+	private final List<Entry> packets;
+	private final List<Entry> blockEntityTypes;
+	private final List<LocationEntry> blockEntities;
+
+	private NetworkReport(long startedAt, int ticks, List<Entry> packets, List<Entry> blockEntityTypes,
+		List<LocationEntry> blockEntities) {
+		this.startedAt = startedAt;
+		this.ticks = ticks;
+		this.packets = packets;
+		this.blockEntityTypes = blockEntityTypes;
+		this.blockEntities = blockEntities;
+	}
+
+	static NetworkReport of(Sample sample) {
+		List<Entry> packets = new ArrayList<>();
+		for (Map.Entry<String, Traffic> entry : sample.packets.entrySet())
+			packets.add(Entry.of(entry.getKey(), entry.getValue()));
+
+		List<Entry> blockEntityTypes = new ArrayList<>();
+		for (Map.Entry<BlockEntityType<?>, Traffic> entry : sample.blockEntityTypes.entrySet())
+			blockEntityTypes.add(Entry.of(nameOf(entry.getKey()), entry.getValue()));
+
+		List<LocationEntry> blockEntities = new ArrayList<>();
+		for (Map.Entry<Location, Traffic> entry : sample.blockEntities.entrySet()) {
+			Location location = entry.getKey();
+			Traffic traffic = entry.getValue();
+			blockEntities.add(new LocationEntry(nameOf(location.type()), location.dimension(), location.pos(),
+				traffic.requests, traffic.packets, traffic.bytes));
+		}
+
+		Comparator<Entry> byBytes = Comparator.comparingLong(Entry::bytes)
+			.thenComparingInt(Entry::requests);
+		packets.sort(byBytes.reversed());
+		blockEntityTypes.sort(byBytes.reversed());
+		blockEntities.sort(Comparator.comparingLong(LocationEntry::bytes)
+			.thenComparingInt(LocationEntry::requests)
+			.reversed());
+		if (blockEntities.size() > ProfileReport.MAX_EXPORTED_LOCATIONS)
+			blockEntities = new ArrayList<>(blockEntities.subList(0, ProfileReport.MAX_EXPORTED_LOCATIONS));
+
+		return new NetworkReport(sample.startedAt, Math.max(sample.ticks, 1), packets, blockEntityTypes,
+			blockEntities);
+	}
+
+	private static String nameOf(BlockEntityType<?> type) {
+		return String.valueOf(Registry.BLOCK_ENTITY_TYPE.getKey(type));
+	}
+
+	public int getTicks() {
+		return ticks;
+	}
+
+	public List<Entry> getPackets() {
+		return packets;
+	}
+
+	public List<Entry> getRailwayPackets() {
+		return packets.stream()
+			.filter(entry -> RAILWAY_PACKETS.contains(entry.name()))
+			.toList();
+	}
+
+	public List<Entry> getBlockEntityTypes() {
+		return blockEntityTypes;
+	}
+
+	public List<LocationEntry> getBlockEntities() {
+		return blockEntities;
+	}
+
+	public double perSecond(long value) {
+		return value * 20d / ticks;
+	}
+
+	public String describe(List<Entry> entries) {
+		long bytes = 0;
+		long packets = 0;
+		for (Entry entry : entries) {
+			bytes += entry.bytes();
+			packets += entry.packets();
+		}
+		return describe(bytes, packets);
+	}
+
+	public String describe(long bytes, long packets) {
+		return String.format("%.1f KiB/s in %.1f packets/s", perSecond(bytes) / 1024, perSecond(packets));
+	}
+
+	public JsonObject toJson() {
+		JsonObject json = new JsonObject();
+		json.addProperty("startedAt", startedAt);
+		json.addProperty("ticks", ticks);
+		json.add("packets", toJson(packets));
+		json.add("blockEntityTypes", toJson(blockEntityTypes));
+
+		JsonArray blockEntitiesJson = new JsonArray();
+		for (LocationEntry entry : blockEntities) {
+			JsonObject entryJson = new JsonObject();
+			entryJson.addProperty("type", entry.type());
+			entryJson.addProperty("dimension", entry.dimension());
+			entryJson.addProperty("x", entry.pos()
+				.getX());
+			entryJson.addProperty("y", entry.pos()
+				.getY());
+			entryJson.addProperty("z", entry.pos()
+				.getZ());
+			entryJson.addProperty("sendDataPerSecond", perSecond(entry.requests()));
+			entryJson.addProperty("packetsPerSecond", perSecond(entry.packets()));
+			entryJson.addProperty("bytesPerSecond", perSecond(entry.bytes()));
+			blockEntitiesJson.add(entryJson);
+		}
+		json.add("blockEntities", blockEntitiesJson);
+		return json;
+	}
+
+	private JsonArray toJson(List<Entry> entries) {
+		JsonArray array = new JsonArray();
+		for (Entry entry : entries) {
+			JsonObject entryJson = new JsonObject();
+			entryJson.addProperty("name", entry.name());
+			if (entry.requests() > 0)
+				entryJson.addProperty("sendDataPerSecond", perSecond(entry.requests()));
+			entryJson.addProperty("packetsPerSecond", perSecond(entry.packets()));
+			entryJson.addProperty("bytesPerSecond", perSecond(entry.bytes()));
+			array.add(entryJson);
+		}
+		return array;
+	}
+
+	/**
+	 * Writes this report to the game's debug directory.
+	 *
+	 * @return the written file
+	 */
+	public Path export() throws IOException {
+		String name = "create-net-" + new SimpleDateFormat("yyyy-MM-dd_HH.mm.ss").format(new Date(startedAt));
+		Files.createDirectories(ProfileReport.EXPORT_DIRECTORY);
+		Path path = ProfileReport.EXPORT_DIRECTORY.resolve(name + ".json");
+		try (Writer writer = Files.newBufferedWriter(path)) {
+			Create.GSON.toJson(toJson(), writer);
+		}
+		return path;
+	}
+
+	/**
+	 * @param requests calls to sendData, only counted for block entities
+	 */
+	public record Entry(String name, int requests, int packets, long bytes) {
+
+		static Entry of(String name, Traffic traffic) {
+			return new Entry(name, traffic.requests, traffic.packets, traffic.bytes);
+		}
+
+	}
+
+	public record LocationEntry(String type, String dimension, BlockPos pos, int requests, int packets, long bytes) {
+	}
+
+}
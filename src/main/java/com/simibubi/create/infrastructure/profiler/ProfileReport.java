@@ -0,0 +1,172 @@
+package com.simibubi.create.infrastructure.profiler;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.simibubi.create.Create;
+import com.simibubi.create.infrastructure.profiler.SubsystemProfiler.Location;
+import com.simibubi.create.infrastructure.profiler.SubsystemProfiler.Sample;
+import com.simibubi.create.infrastructure.profiler.SubsystemProfiler.Subsystem;
+import com.simibubi.create.infrastructure.profiler.SubsystemProfiler.Timing;
+
+import net.fabricmc.loader.api.FabricLoader;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Registry;
+import net.minecraft.world.level.block.entity.BlockEntityType;
+
+/**
+ * The outcome of a {@link SubsystemProfiler} sample, sorted by time taken.
+ */
+public class ProfileReport {
+
+	public static final int MAX_EXPORTED_LOCATIONS = 256;
+	public static final Path EXPORT_DIRECTORY = FabricLoader.getInstance()
+		.getGameDir()
+		.resolve("debug");
+
+	private final long startedAt;
+	private final int ticks;
+	private final List<Entry> subsystems;
+	private final List<Entry> blockEntityTypes;
+	private final List<LocationEntry> locations;
+
+	private ProfileReport(long startedAt, int ticks, List<Entry> subsystems, List<Entry> blockEntityTypes,
+		List<LocationEntry> locations) {
+		this.startedAt = startedAt;
+		this.ticks = ticks;
+		this.subsystems = subsystems;
+		this.blockEntityTypes = blockEntityTypes;
+		this.locations = locations;
+	}
+
+	static ProfileReport of(Sample sample) {
+		List<Entry> subsystems = new ArrayList<>();
+		for (Map.Entry<Subsystem, Timing> entry : sample.subsystems.entrySet())
+			subsystems.add(new Entry(entry.getKey()
+				.getDisplayName(), entry.getValue().nanos, entry.getValue().calls));
+
+		List<Entry> blockEntityTypes = new ArrayList<>();
+		for (Map.Entry<BlockEntityType<?>, Timing> entry : sample.blockEntityTypes.entrySet())
+			blockEntityTypes.add(new Entry(String.valueOf(Registry.BLOCK_ENTITY_TYPE.getKey(entry.getKey())),
+				entry.getValue().nanos, entry.getValue().calls));
+
+		List<LocationEntry> locations = new ArrayList<>();
+		for (Map.Entry<Location, Timing> entry : sample.locations.entrySet()) {
+			Location location = entry.getKey();
+			locations.add(new LocationEntry(location.source(), location.dimension()
+				.location()
+				.toString(), location.pos(), entry.getValue().nanos, entry.getValue().calls));
+		}
+
+		subsystems.sort(Comparator.comparingLong(Entry::nanos)
+			.reversed());
+		blockEntityTypes.sort(Comparator.comparingLong(Entry::nanos)
+			.reversed());
+		locations.sort(Comparator.comparingLong(LocationEntry::nanos)
+			.reversed());
+		if (locations.size() > MAX_EXPORTED_LOCATIONS)
+			locations = new ArrayList<>(locations.subList(0, MAX_EXPORTED_LOCATIONS));
+
+		return new ProfileReport(sample.startedAt, Math.max(sample.ticks, 1), subsystems, blockEntityTypes,
+			locations);
+	}
+
+	public int getTicks() {
+		return ticks;
+	}
+
+	public List<Entry> getSubsystems() {
+		return subsystems;
+	}
+
+	public List<Entry> getBlockEntityTypes() {
+		return blockEntityTypes;
+	}
+
+	public List<LocationEntry> getLocations() {
+		return locations;
+	}
+
+	public double msPerTick(long nanos) {
+		return nanos / 1_000_000d / ticks;
+	}
+
+	public String describe(String subsystem) {
+		for (Entry entry : subsystems)
+			if (entry.name()
+				.equals(subsystem))
+				return String.format("%.3f ms/tick, %.1f calls/tick", msPerTick(entry.nanos()),
+					(double) entry.calls() / ticks);
+		return "none";
+	}
+
+	public JsonObject toJson() {
+		JsonObject json = new JsonObject();
+		json.addProperty("startedAt", startedAt);
+		json.addProperty("ticks", ticks);
+		json.add("subsystems", toJson(subsystems));
+		json.add("blockEntityTypes", toJson(blockEntityTypes));
+
+		JsonArray locationsJson = new JsonArray();
+		for (LocationEntry entry : locations) {
+			JsonObject entryJson = new JsonObject();
+			entryJson.addProperty("source", entry.source());
+			entryJson.addProperty("dimension", entry.dimension());
+			entryJson.addProperty("x", entry.pos()
+				.getX());
+			entryJson.addProperty("y", entry.pos()
+				.getY());
+			entryJson.addProperty("z", entry.pos()
+				.getZ());
+			entryJson.addProperty("msPerTick", msPerTick(entry.nanos()));
+			entryJson.addProperty("calls", entry.calls());
+			locationsJson.add(entryJson);
+		}
+		json.add("locations", locationsJson);
+		return json;
+	}
+
+	private JsonArray toJson(List<Entry> entries) {
+		JsonArray array = new JsonArray();
+		for (Entry entry : entries) {
+			JsonObject entryJson = new JsonObject();
+			entryJson.addProperty("name", entry.name());
+			entryJson.addProperty("msPerTick", msPerTick(entry.nanos()));
+			entryJson.addProperty("calls", entry.calls());
+			array.add(entryJson);
+		}
+		return array;
+	}
+
+	/**
+	 * Writes this report to the game's debug directory.
+	 *
+	 * @return the written file
+	 */
+	public Path export() throws IOException {
+		String name = "create-perf-" + new SimpleDateFormat("yyyy-MM-dd_HH.mm.ss").format(new Date(startedAt));
+		Files.createDirectories(EXPORT_DIRECTORY);
+		Path path = EXPORT_DIRECTORY.resolve(name + ".json");
+		try (Writer writer = Files.newBufferedWriter(path)) {
+			Create.GSON.toJson(toJson(), writer);
+		}
+		return path;
+	}
+
+	public record Entry(String name, long nanos, int calls) {
+	}
+
+	public record LocationEntry(String source, String dimension, BlockPos pos, long nanos, int calls) {
+	}
+
+}
@@ -0,0 +1,167 @@
+package com.simibubi.create.infrastructure.profiler;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import javax.annotation.Nullable;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Registry;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.entity.BlockEntityType;
+
+/**
+ * Measures how much server tick time Create's main subsystems take. Nothing is
+ * recorded unless a sample is running, in which case callers wrap the measured
+ * section like this:
+ *
+ * <pre>
+ * long start = SubsystemProfiler.start(level);
+ * ...
+ * SubsystemProfiler.end(start, Subsystem.FLUID_NETWORKS, level, pos);
+ * </pre>
+ *
+ * Sections may be nested in block entity ticks, so block entity timings include
+ * the subsystems they tick. Only the server thread is measured.
+ */
+public class SubsystemProfiler {
+
+	public static final long NOT_SAMPLING = -1;
+
+	private static volatile Sample sample;
+	private static ProfileReport lastReport;
+
+	public enum Subsystem {
+		RAILWAYS("Railways"),
+		CONTRAPTIONS("Contraptions"),
+		KINETIC_PROPAGATION("Kinetic Propagation"),
+		FLUID_NETWORKS("Fluid Networks"),
+		BELT_INVENTORIES("Belt Inventories"),
+		BLOCK_ENTITIES("Smart Block Entities");
+
+		private final String displayName;
+
+		Subsystem(String displayName) {
+			this.displayName = displayName;
+		}
+
+		public String getDisplayName() {
+			return displayName;
+		}
+	}
+
+	/**
+	 * @return the start time of the section, or {@link #NOT_SAMPLING}
+	 */
+	public static long start(Level level) {
+		if (sample == null || level.isClientSide)
+			return NOT_SAMPLING;
+		return System.nanoTime();
+	}
+
+	public static void end(long start, Subsystem subsystem, Level level, @Nullable BlockPos pos) {
+		if (start == NOT_SAMPLING)
+			return;
+		Sample current = sample;
+		if (current == null)
+			return;
+		long time = System.nanoTime() - start;
+		current.subsystems.get(subsystem)
+			.add(time);
+		if (pos != null)
+			current.locations.computeIfAbsent(new Location(level.dimension(), pos.immutable(), subsystem.getDisplayName()),
+				$ -> new Timing())
+				.add(time);
+	}
+
+	public static void endBlockEntity(long start, BlockEntity be) {
+		if (start == NOT_SAMPLING)
+			return;
+		Sample current = sample;
+		if (current == null)
+			return;
+		long time = System.nanoTime() - start;
+		String type = String.valueOf(Registry.BLOCK_ENTITY_TYPE.getKey(be.getType()));
+		current.subsystems.get(Subsystem.BLOCK_ENTITIES)
+			.add(time);
+		current.blockEntityTypes.computeIfAbsent(be.getType(), $ -> new Timing())
+			.add(time);
+		current.locations.computeIfAbsent(new Location(be.getLevel()
+			.dimension(), be.getBlockPos(), type), $ -> new Timing())
+			.add(time);
+	}
+
+	/**
+	 * Starts recording for the given amount of server ticks.
+	 *
+	 * @return false if a sample is already running
+	 */
+	public static boolean startSample(int ticks, Consumer<ProfileReport> onFinish) {
+		if (sample != null)
+			return false;
+		sample = new Sample(ticks, onFinish);
+		return true;
+	}
+
+	public static boolean isSampling() {
+		return sample != null;
+	}
+
+	public static void serverTick() {
+		Sample current = sample;
+		if (current == null)
+			return;
+		current.ticks++;
+		if (current.ticks < current.duration)
+			return;
+		sample = null;
+		lastReport = ProfileReport.of(current);
+		current.onFinish.accept(lastReport);
+	}
+
+	@Nullable
+	public static ProfileReport getLastReport() {
+		return lastReport;
+	}
+
+	static class Sample {
+
+		final int duration;
+		final Consumer<ProfileReport> onFinish;
+		final long startedAt;
+		int ticks;
+
+		final Map<Subsystem, Timing> subsystems = new EnumMap<>(Subsystem.class);
+		final Map<BlockEntityType<?>, Timing> blockEntityTypes = new HashMap<>();
+		final Map<Location, Timing> locations = new HashMap<>();
+
+		Sample(int duration, Consumer<ProfileReport> onFinish) {
+			this.duration = duration;
+			this.onFinish = onFinish;
+			this.startedAt = System.currentTimeMillis();
+			for (Subsystem subsystem : Subsystem.values())
+				subsystems.put(subsystem, new Timing());
+		}
+
+	}
+
+	static class Timing {
+
+		long nanos;
+		int calls;
+
+		void add(long time) {
+			nanos += time;
+			calls++;
+		}
+
+	}
+
+	record Location(ResourceKey<Level> dimension, BlockPos pos, String source) {
+	}
+
+}